@@ -0,0 +1,74 @@
+package com.ems.benchmarks;
+
+import com.ems.mapper.EmployeeBatchWriter;
+import com.ems.model.Employee;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmployeeBatchWriter} in its two modes: {@code batch} (JDBC batches of the single-row insert) and
+ * {@code foreach} (one multi-row INSERT). Each invocation writes {@code rows} employees into an empty table
+ * inside one transaction, as a bulk import chunk does. For MySQL numbers run against a server with
+ * {@code rewriteBatchedStatements=true} on the JDBC URL.
+ * <p>
+ * The {@code foreach} cell for 100k rows is kept as is and fails on H2, which allows at most 100k parameters
+ * where the statement binds 600k. On MySQL the statement is about 15 MB and only runs when
+ * {@code max_allowed_packet} is larger than that.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BatchInsertBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    @Param({"batch", "foreach"})
+    private String mode;
+
+    private HikariDataSource dataSource;
+    private MyBatisFixture fixture;
+    private EmployeeBatchWriter writer;
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        dataSource = BenchmarkDatabase.open("batch", 2);
+        fixture = new MyBatisFixture(dataSource);
+        writer = fixture.batchWriter(mode, 1000, 1L << 20);
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTable() {
+        BenchmarkDatabase.truncate(dataSource);
+        employees = ServiceFixture.employees(rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Integer insertAll() {
+        return fixture.transactionTemplate().execute(status -> writer.insertAll(employees));
+    }
+}
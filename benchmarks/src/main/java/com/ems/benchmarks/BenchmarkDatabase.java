@@ -0,0 +1,140 @@
+package com.ems.benchmarks;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Pooled connection to the benchmark database. By default every suite gets its own in-memory H2 database
+ * in MySQL mode; pass {@code -Dems.bench.jdbc.url=jdbc:mysql://...} (plus {@code ems.bench.jdbc.username}
+ * and {@code ems.bench.jdbc.password}) to run against a real server with the schema from create_database.sql.
+ */
+public final class BenchmarkDatabase {
+
+    public static final String DEFAULT_PASSWORD = "password123";
+    public static final String DEFAULT_PASSWORD_HASH = new BCryptPasswordEncoder().encode(DEFAULT_PASSWORD);
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Marketing", "Finance", "Operations"};
+    private static final String[] ROLES = {"EMPLOYEE", "MANAGER", "HR", "ADMIN"};
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private BenchmarkDatabase() {
+    }
+
+    public static String jdbcUrl(String embeddedName) {
+        return System.getProperty("ems.bench.jdbc.url",
+            "jdbc:h2:mem:" + embeddedName + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    }
+
+    public static boolean isEmbedded(String jdbcUrl) {
+        return jdbcUrl.startsWith("jdbc:h2:");
+    }
+
+    /**
+     * Opens a pool on the benchmark database and creates the employees table when it is embedded.
+     */
+    public static HikariDataSource open(String embeddedName, int poolSize) {
+        String url = jdbcUrl(embeddedName);
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("bench-" + embeddedName);
+        config.setJdbcUrl(url);
+        config.setUsername(System.getProperty("ems.bench.jdbc.username", isEmbedded(url) ? "sa" : "ems_user"));
+        config.setPassword(System.getProperty("ems.bench.jdbc.password", isEmbedded(url) ? "" : "ems_password"));
+        config.setMaximumPoolSize(poolSize);
+        HikariDataSource dataSource = new HikariDataSource(config);
+
+        if (isEmbedded(url)) {
+            execute(dataSource, "DROP TABLE IF EXISTS employees");
+            execute(dataSource, readResource("/schema-h2.sql"));
+        }
+        return dataSource;
+    }
+
+    public static int count(DataSource dataSource) {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM employees")) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not count employees", e);
+        }
+    }
+
+    public static void truncate(DataSource dataSource) {
+        execute(dataSource, "TRUNCATE TABLE employees");
+    }
+
+    /**
+     * Inserts employees {@code from} (inclusive) to {@code to} (exclusive) with deterministic values:
+     * {@code employee<i>@company.com}, "First<i> Last<i>", and departments and roles spread evenly.
+     */
+    public static void seed(DataSource dataSource, int from, int to) {
+        String sql = "INSERT INTO employees (name, email, password, phone, department, role) VALUES (?, ?, ?, ?, ?, ?)";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+            for (int i = from; i < to; i++) {
+                stmt.setString(1, name(i));
+                stmt.setString(2, email(i));
+                stmt.setString(3, DEFAULT_PASSWORD_HASH);
+                stmt.setString(4, String.format("555-%07d", i));
+                stmt.setString(5, department(i));
+                stmt.setString(6, role(i));
+                stmt.addBatch();
+                if ((i - from + 1) % SEED_BATCH_SIZE == 0) {
+                    stmt.executeBatch();
+                    conn.commit();
+                }
+            }
+            stmt.executeBatch();
+            conn.commit();
+            conn.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not seed employees", e);
+        }
+    }
+
+    public static String name(int i) {
+        return "First" + i + " Last" + i;
+    }
+
+    public static String email(int i) {
+        return "employee" + i + "@company.com";
+    }
+
+    public static String department(int i) {
+        return DEPARTMENTS[i % DEPARTMENTS.length];
+    }
+
+    public static String role(int i) {
+        return ROLES[i % ROLES.length];
+    }
+
+    private static void execute(DataSource dataSource, String sql) {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not execute: " + sql, e);
+        }
+    }
+
+    private static String readResource(String path) {
+        try (InputStream in = BenchmarkDatabase.class.getResourceAsStream(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + path, e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ems.benchmarks;
+
+import com.ems.dto.BulkImportSummary;
+import com.ems.service.EmployeeService;
+import com.ems.service.ImportCheckpoint;
+import com.opencsv.CSVReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV import without the database and BCrypt: {@code parseOnly} is the opencsv read loop on its own, and
+ * {@code importCsv} runs {@link EmployeeService#importCsv} end to end (parsing, record mapping,
+ * chunking and duplicate detection) so the difference is the service's own per-row overhead.
+ * Rows per second = {@code rows} / score.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CsvImportBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private byte[] csv;
+    private EmployeeService service;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("name,email,department,phone,password,role\n");
+        for (int i = 0; i < rows; i++) {
+            builder.append(BenchmarkDatabase.name(i)).append(',')
+                .append(BenchmarkDatabase.email(i)).append(',')
+                .append(BenchmarkDatabase.department(i)).append(',')
+                .append(String.format("555-%07d", i)).append(',')
+                .append(BenchmarkDatabase.DEFAULT_PASSWORD).append(',')
+                .append(BenchmarkDatabase.role(i)).append('\n');
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+        service = ServiceFixture.service(ServiceFixture.inMemoryMapper(ServiceFixture.employees(1)));
+    }
+
+    @Benchmark
+    public void parseOnly(Blackhole blackhole) throws Exception {
+        try (CSVReader reader = new CSVReader(new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8))) {
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                blackhole.consume(record);
+            }
+        }
+    }
+
+    @Benchmark
+    public BulkImportSummary importCsv() throws Exception {
+        return service.importCsv(new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8),
+            0, new BulkImportSummary(), ImportCheckpoint.NONE);
+    }
+}
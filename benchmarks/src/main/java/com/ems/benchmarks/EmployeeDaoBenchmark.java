@@ -0,0 +1,91 @@
+package com.ems.benchmarks;
+
+import com.ems.keycloak.cache.EmployeeLookupCache;
+import com.ems.keycloak.dao.EmployeeDao;
+import com.ems.keycloak.dao.EmployeeSearchCriteria;
+import com.ems.keycloak.entity.EmployeeEntity;
+import com.ems.keycloak.metrics.ProviderMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Keycloak provider lookups through {@link EmployeeDao} on a pooled embedded database, plus the same email
+ * lookup behind the provider's {@link EmployeeLookupCache}. Keys are drawn uniformly from the seeded rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmployeeDaoBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    private HikariDataSource dataSource;
+    private EmployeeDao dao;
+    private EmployeeLookupCache lookupCache;
+    private EmployeeSearchCriteria departmentCriteria;
+
+    @Setup
+    public void setUp() {
+        dataSource = BenchmarkDatabase.open("dao", 10);
+        if (BenchmarkDatabase.count(dataSource) < rows) {
+            BenchmarkDatabase.truncate(dataSource);
+            BenchmarkDatabase.seed(dataSource, 0, rows);
+        }
+        dao = new EmployeeDao(dataSource, new ProviderMetrics());
+        lookupCache = new EmployeeLookupCache(rows, TimeUnit.MINUTES.toMillis(10));
+        departmentCriteria = new EmployeeSearchCriteria();
+        departmentCriteria.setDepartment(BenchmarkDatabase.department(0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public EmployeeEntity findByEmail() {
+        return dao.findByEmail(BenchmarkDatabase.email(randomRow()));
+    }
+
+    @Benchmark
+    public EmployeeEntity findById() {
+        // Seeded ids start at 1
+        return dao.findById((long) randomRow() + 1);
+    }
+
+    @Benchmark
+    public EmployeeEntity cachedFindByEmail() {
+        return lookupCache.get(BenchmarkDatabase.email(randomRow()), dao::findByEmail);
+    }
+
+    @Benchmark
+    public void searchPage(Blackhole blackhole) {
+        try (Stream<EmployeeEntity> page = dao.search(departmentCriteria, randomRow() / 10, 50)) {
+            page.forEach(blackhole::consume);
+        }
+    }
+
+    private int randomRow() {
+        return ThreadLocalRandom.current().nextInt(rows);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ems.benchmarks;
+
+import com.ems.dto.EmployeeField;
+import com.ems.dto.EmployeeResponse;
+import com.ems.dto.PageResponse;
+import com.ems.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-response mapping in {@link EmployeeService}: a single {@code convertToResponse} through
+ * {@code getEmployeeById}, and a whole search page including the extra look-ahead row and cursor encoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmployeeMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private EmployeeService service;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        service = ServiceFixture.service(ServiceFixture.inMemoryMapper(ServiceFixture.employees(pageSize + 1)));
+    }
+
+    @Benchmark
+    public EmployeeResponse convertToResponse() {
+        return service.getEmployeeById(nextId++);
+    }
+
+    @Benchmark
+    public PageResponse<EmployeeResponse> searchPage() {
+        return service.searchEmployees(null, null, null, null, null, pageSize, EmployeeField.ALL);
+    }
+}
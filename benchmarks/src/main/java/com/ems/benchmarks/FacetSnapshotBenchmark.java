@@ -0,0 +1,71 @@
+package com.ems.benchmarks;
+
+import com.ems.dto.EmployeeFacetsResponse;
+import com.ems.facet.FacetSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Facet counts from {@link FacetSnapshot}: unfiltered (read from the running counts), filtered on a
+ * dictionary-encoded column (bitmap AND per value) and filtered on name (one column scan), plus the
+ * single-row upsert applied after each committed write.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FacetSnapshotBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private FacetSnapshot snapshot;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        snapshot = new FacetSnapshot(rows);
+        for (int i = 0; i < rows; i++) {
+            snapshot.upsert(i, 0, BenchmarkDatabase.name(i), BenchmarkDatabase.email(i),
+                BenchmarkDatabase.department(i), BenchmarkDatabase.role(i));
+        }
+    }
+
+    @Benchmark
+    public EmployeeFacetsResponse unfiltered() {
+        return snapshot.count(null, null, null, null);
+    }
+
+    @Benchmark
+    public EmployeeFacetsResponse departmentFilter() {
+        return snapshot.count(null, null, "sales", null);
+    }
+
+    @Benchmark
+    public EmployeeFacetsResponse nameFilter() {
+        return snapshot.count("42", null, null, null);
+    }
+
+    @Benchmark
+    public void upsert() {
+        long n = nextId++;
+        long id = n % rows;
+        int i = (int) id;
+        // Each pass over the ids is a newer version, so every call replaces the row
+        snapshot.upsert(id, (int) (n / rows), BenchmarkDatabase.name(i), BenchmarkDatabase.email(i),
+            BenchmarkDatabase.department(i + 1), BenchmarkDatabase.role(i));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ems.benchmarks;
+
+import com.ems.security.KeycloakAuthoritiesConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JWT authorities converter wired in {@code SecurityConfig}. {@code parseClaims} is the uncached role
+ * extraction every request paid before the per-token cache; {@code cachedConvert} is a repeat request with the
+ * same token; {@code authenticationConverter} adds the {@link JwtAuthenticationConverter} wrapper around it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtAuthoritiesBenchmark {
+
+    private static final String CLIENT_ID = "employee-api-client";
+
+    private KeycloakAuthoritiesConverter converter;
+    private JwtAuthenticationConverter authenticationConverter;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        converter = new KeycloakAuthoritiesConverter(CLIENT_ID, 10_000, new SimpleMeterRegistry());
+        authenticationConverter = new JwtAuthenticationConverter();
+        authenticationConverter.setJwtGrantedAuthoritiesConverter(converter);
+
+        Instant now = Instant.now();
+        jwt = Jwt.withTokenValue("benchmark-token")
+            .header("alg", "RS256")
+            .jti(UUID.randomUUID().toString())
+            .subject("employee1@company.com")
+            .issuedAt(now)
+            .expiresAt(now.plus(1, ChronoUnit.HOURS))
+            .claim("realm_access", Map.of("roles",
+                List.of("READ_EMPLOYEES", "CREATE_EMPLOYEES", "UPDATE_EMPLOYEES", "offline_access", "uma_authorization")))
+            .claim("resource_access", Map.of(CLIENT_ID, Map.of("roles", List.of("CLIENT_READ", "CLIENT_WRITE"))))
+            .build();
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> parseClaims() {
+        return converter.extractAuthorities(jwt);
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> cachedConvert() {
+        return converter.convert(jwt);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken authenticationConverter() {
+        return authenticationConverter.convert(jwt);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ems.benchmarks;
+
+import com.ems.keycloak.entity.EmployeeEntity;
+import com.ems.keycloak.provider.EmployeeUserMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Role mapping and attribute building done by the provider's user adapter each time Keycloak reads a user.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KeycloakMappingBenchmark {
+
+    @Param({"ADMIN", "MANAGER", "HR", "EMPLOYEE"})
+    private String role;
+
+    private EmployeeEntity employee;
+
+    @Setup
+    public void setUp() {
+        employee = new EmployeeEntity();
+        employee.setId(1L);
+        employee.setName(BenchmarkDatabase.name(1));
+        employee.setEmail(BenchmarkDatabase.email(1));
+        employee.setPhone("555-0000001");
+        employee.setDepartment(BenchmarkDatabase.department(1));
+        employee.setRole(role);
+    }
+
+    @Benchmark
+    public List<String> mapEmployeeRoleToKeycloakRoles() {
+        return EmployeeUserMapping.mapEmployeeRoleToKeycloakRoles(role);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> buildAttributes() {
+        // AbstractUserAdapter starts from the four standard attributes
+        Map<String, List<String>> attributes = new HashMap<>();
+        attributes.put("username", List.of(employee.getEmail()));
+        attributes.put("email", List.of(employee.getEmail()));
+        attributes.put("firstName", List.of("First1"));
+        attributes.put("lastName", List.of("Last1"));
+        EmployeeUserMapping.putAttributes(attributes, employee);
+        return attributes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ems.benchmarks;
+
+import com.ems.mapper.EmployeeBatchWriter;
+import com.ems.mapper.EmployeeMapper;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The application's MyBatis wiring without a Spring context: the same mapper XML and annotations, the
+ * same camel-case mapping, and Spring-managed transactions so the batch writer behaves as in the service.
+ */
+public final class MyBatisFixture {
+
+    private static final String MAPPER_XML = "mapper/EmployeeMapper.xml";
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final EmployeeMapper employeeMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public MyBatisFixture(DataSource dataSource) {
+        Configuration configuration = new Configuration(
+            new Environment("benchmark", new SpringManagedTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeAliasRegistry().registerAliases("com.ems.model");
+
+        try (InputStream in = EmployeeMapper.class.getClassLoader().getResourceAsStream(MAPPER_XML)) {
+            new XMLMapperBuilder(in, configuration, MAPPER_XML, configuration.getSqlFragments()).parse();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + MAPPER_XML, e);
+        }
+
+        this.sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+        this.employeeMapper = new SqlSessionTemplate(sqlSessionFactory).getMapper(EmployeeMapper.class);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    public EmployeeMapper employeeMapper() {
+        return employeeMapper;
+    }
+
+    public TransactionTemplate transactionTemplate() {
+        return transactionTemplate;
+    }
+
+    public EmployeeBatchWriter batchWriter(String mode, int maxRows, long maxBytes) {
+        return new EmployeeBatchWriter(sqlSessionFactory, employeeMapper, mode, maxRows, maxBytes);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ems.benchmarks;
+
+import com.ems.dto.ApiResponse;
+import com.ems.dto.EmployeeField;
+import com.ems.dto.EmployeeResponse;
+import com.ems.dto.PageResponse;
+import com.ems.model.Employee;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes and decodes a 10k-employee search result, wrapped in {@code ApiResponse} as the controller returns
+ * it, in each encoding a client can negotiate: plain JSON, JSON gzip'd as the server compresses it, CBOR and
+ * Smile. The encoded size of each is printed once at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResponseEncodingBenchmark {
+
+    private static final TypeReference<ApiResponse<PageResponse<EmployeeResponse>>> PAGE_TYPE =
+        new TypeReference<ApiResponse<PageResponse<EmployeeResponse>>>() {};
+
+    @Param({"json", "json-gzip", "cbor", "smile"})
+    private String encoding;
+
+    @Param({"10000"})
+    private int rows;
+
+    private ApiResponse<PageResponse<EmployeeResponse>> page;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private boolean gzip;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<EmployeeResponse> content = new ArrayList<>(rows);
+        for (Employee employee : ServiceFixture.employees(rows)) {
+            content.add(new EmployeeResponse(employee.getId(), employee.getName(), employee.getEmail(),
+                employee.getPhone(), employee.getDepartment(), employee.getRole(), employee.getCreatedAt(),
+                employee.getUpdatedAt(), 0));
+        }
+        page = ApiResponse.success(new PageResponse<>(content, content.size(), true, "cursor"),
+            "Employees retrieved successfully");
+
+        // Configured like the application's mappers: ISO dates and the employee field filter
+        ObjectMapper mapper = new ObjectMapper(factory(encoding))
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .setFilterProvider(EmployeeField.ALL_FIELDS);
+        writer = mapper.writer();
+        reader = mapper.readerFor(PAGE_TYPE);
+        gzip = encoding.equals("json-gzip");
+        encoded = encode();
+        System.out.printf("%n%s: %d employees encode to %,d bytes%n", encoding, rows, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (!gzip) {
+            return writer.writeValueAsBytes(page);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            writer.writeValue(out, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public ApiResponse<PageResponse<EmployeeResponse>> decode() throws IOException {
+        if (!gzip) {
+            return reader.readValue(encoded);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+            return reader.readValue(in);
+        }
+    }
+
+    private static JsonFactory factory(String encoding) {
+        switch (encoding) {
+            case "cbor":
+                return new CBORFactory();
+            case "smile":
+                return new SmileFactory();
+            default:
+                return new JsonFactory();
+        }
+    }
+}
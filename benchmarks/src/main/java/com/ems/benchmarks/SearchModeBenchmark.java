@@ -0,0 +1,73 @@
+package com.ems.benchmarks;
+
+import com.ems.dto.EmployeeField;
+import com.ems.mapper.EmployeeMapper;
+import com.ems.model.Employee;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First search page for a substring term with {@code ems.search.mode=like} against {@code fulltext}. Needs MySQL
+ * with the ngram FULLTEXT indexes from create_database.sql (H2 has no MATCH ... AGAINST):
+ * {@code -Dems.bench.jdbc.url=jdbc:mysql://localhost:3306/employee_management}. The table is topped up to
+ * {@code -Dems.bench.search.rows} (default 1,000,000) rows on the first run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SearchModeBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"like", "fulltext"})
+    private String mode;
+
+    // A term present in many names and one that matches a handful of rows
+    @Param({"Last12", "First123456"})
+    private String term;
+
+    private HikariDataSource dataSource;
+    private EmployeeMapper mapper;
+
+    @Setup
+    public void setUp() {
+        if (BenchmarkDatabase.isEmbedded(BenchmarkDatabase.jdbcUrl("search"))) {
+            throw new IllegalStateException("SearchModeBenchmark needs MySQL with the FULLTEXT indexes; "
+                + "run with -Dems.bench.jdbc.url=jdbc:mysql://...");
+        }
+        dataSource = BenchmarkDatabase.open("search", 4);
+        int target = Integer.getInteger("ems.bench.search.rows", 1_000_000);
+        int existing = BenchmarkDatabase.count(dataSource);
+        if (existing < target) {
+            BenchmarkDatabase.seed(dataSource, existing, target);
+        }
+        mapper = new MyBatisFixture(dataSource).employeeMapper();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<Employee> firstPage() {
+        return mapper.searchEmployeesPage(EmployeeField.columns(EmployeeField.ALL), term, null, null, null, "fulltext".equals(mode), null, null, PAGE_SIZE + 1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ems.benchmarks;
+
+import com.ems.dto.EmployeeField;
+import com.ems.dto.EmployeeResponse;
+import com.ems.dto.PageResponse;
+import com.ems.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A search page read through the real mapper and serialized as the controller does, with every field
+ * against a {@code fields=} selection. Both the SELECT list and the JSON shrink with the selection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SearchProjectionBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    // "" selects every field
+    @Param({"", "name,email"})
+    private String fields;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private HikariDataSource dataSource;
+    private EmployeeService service;
+    private Set<EmployeeField> selected;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        dataSource = BenchmarkDatabase.open("projection", 4);
+        if (BenchmarkDatabase.count(dataSource) < ROWS) {
+            BenchmarkDatabase.truncate(dataSource);
+            BenchmarkDatabase.seed(dataSource, 0, ROWS);
+        }
+        service = ServiceFixture.service(new MyBatisFixture(dataSource).employeeMapper());
+        selected = EmployeeField.parse(fields);
+        writer = new ObjectMapper().findAndRegisterModules().writer(EmployeeField.filters(selected));
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public PageResponse<EmployeeResponse> query() {
+        return service.searchEmployees(null, null, null, null, null, pageSize, selected);
+    }
+
+    @Benchmark
+    public byte[] queryAndSerialize() throws Exception {
+        return writer.writeValueAsBytes(service.searchEmployees(null, null, null, null, null, pageSize, selected));
+    }
+}
@@ -0,0 +1,130 @@
+package com.ems.benchmarks;
+
+import com.ems.dto.EmployeeField;
+import com.ems.facet.EmployeeFacetIndex;
+import com.ems.mapper.EmployeeBatchWriter;
+import com.ems.mapper.EmployeeMapper;
+import com.ems.model.Employee;
+import com.ems.service.EmployeeService;
+import com.ems.service.PasswordHashingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builds an {@link EmployeeService} around in-memory collaborators so a suite measures the service's own
+ * work: no database, no BCrypt and no Spring proxies. The {@code @Value} settings get their defaults.
+ */
+public final class ServiceFixture {
+
+    private ServiceFixture() {
+    }
+
+    public static EmployeeService service(EmployeeMapper mapper) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+        EmployeeService service = new EmployeeService(mapper, new DiscardingBatchWriter(),
+            transactionTemplate, new PlainPasswordHashing(meterRegistry),
+            new ObjectMapper().findAndRegisterModules().setFilterProvider(EmployeeField.ALL_FIELDS), meterRegistry,
+            new EmployeeFacetIndex(mapper, transactionTemplate, meterRegistry, false, Duration.ZERO));
+        ReflectionTestUtils.setField(service, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(service, "maxPageSize", 100);
+        ReflectionTestUtils.setField(service, "searchMode", "like");
+        ReflectionTestUtils.setField(service, "importChunkSize", 500);
+        return service;
+    }
+
+    /**
+     * Mapper that serves {@code findById} and {@code searchEmployeesPage} from the given rows and reports no
+     * existing emails. Any other statement fails so a suite cannot silently measure a stub.
+     */
+    public static EmployeeMapper inMemoryMapper(List<Employee> rows) {
+        return (EmployeeMapper) Proxy.newProxyInstance(EmployeeMapper.class.getClassLoader(),
+            new Class<?>[]{EmployeeMapper.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "findById":
+                        return rows.get((int) (((Long) args[0]) % rows.size()));
+                    case "searchEmployeesPage":
+                        int limit = (Integer) args[args.length - 1];
+                        return new ArrayList<>(rows.subList(0, Math.min(limit, rows.size())));
+                    case "findExistingEmails":
+                        return Collections.emptyList();
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    public static List<Employee> employees(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Employee> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Employee employee = new Employee();
+            employee.setId((long) i);
+            employee.setName(BenchmarkDatabase.name(i));
+            employee.setEmail(BenchmarkDatabase.email(i));
+            employee.setPassword(BenchmarkDatabase.DEFAULT_PASSWORD_HASH);
+            employee.setPhone(String.format("555-%07d", i));
+            employee.setDepartment(BenchmarkDatabase.department(i));
+            employee.setRole(BenchmarkDatabase.role(i));
+            employee.setCreatedAt(now.minusSeconds(i));
+            employee.setUpdatedAt(now.minusSeconds(i));
+            rows.add(employee);
+        }
+        return rows;
+    }
+
+    private static final class DiscardingBatchWriter extends EmployeeBatchWriter {
+        private DiscardingBatchWriter() {
+            super(null, null, "batch", 1000, 1L << 20);
+        }
+
+        @Override
+        public int insertAll(List<Employee> employees) {
+            return employees.size();
+        }
+    }
+
+    private static final class PlainPasswordHashing extends PasswordHashingService {
+        private PlainPasswordHashing(SimpleMeterRegistry meterRegistry) {
+            super(1, 1, meterRegistry);
+            shutdown();
+        }
+
+        @Override
+        public List<String> encodeAll(List<String> rawPasswords) {
+            return rawPasswords;
+        }
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
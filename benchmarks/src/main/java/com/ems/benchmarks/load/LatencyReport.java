@@ -0,0 +1,84 @@
+package com.ems.benchmarks.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-scenario latency histograms and outcome counts for one measured run. Latency is taken from the
+ * request's scheduled start, not from when it was actually sent, so time spent queued behind a slow
+ * server is included.
+ */
+public class LatencyReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private long windowNanos;
+    private long drainNanos;
+
+    public LatencyReport(List<Scenario> scenarios) {
+        for (Scenario scenario : scenarios) {
+            stats.put(scenario.getName(), new Stats());
+        }
+    }
+
+    public void record(Scenario scenario, long scheduledNanos, long completedNanos, int status) {
+        Stats s = stats.get(scenario.getName());
+        s.latency.recordValue(Math.min(MAX_TRACKABLE_MICROS,
+            Math.max(0, TimeUnit.NANOSECONDS.toMicros(completedNanos - scheduledNanos))));
+        if (status >= 200 && status < 300) {
+            s.ok.increment();
+        } else if (status > 0) {
+            s.rejected.increment();
+        } else {
+            s.failed.increment();
+        }
+    }
+
+    public void dropped(Scenario scenario) {
+        stats.get(scenario.getName()).dropped.increment();
+    }
+
+    /**
+     * @param windowNanos length of the schedule the requests were issued over, used for throughput
+     * @param drainNanos  time spent afterwards waiting for outstanding responses
+     */
+    void finish(long windowNanos, long drainNanos) {
+        this.windowNanos = windowNanos;
+        this.drainNanos = drainNanos;
+    }
+
+    public void print(PrintStream out) {
+        double seconds = windowNanos / 1e9;
+        out.printf("%-12s %9s %9s %8s %8s %8s %10s %10s %10s %10s %10s%n",
+            "endpoint", "requests", "2xx", "non-2xx", "errors", "dropped", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        stats.forEach((name, s) -> {
+            Histogram h = s.latency;
+            out.printf("%-12s %9d %9d %8d %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name, h.getTotalCount(), s.ok.sum(), s.rejected.sum(), s.failed.sum(), s.dropped.sum(),
+                h.getTotalCount() / seconds,
+                millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+                millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+        });
+        out.printf("Outstanding requests drained in %.1f s after the %.0f s schedule%n", drainNanos / 1e9, seconds);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Stats {
+        private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
@@ -0,0 +1,225 @@
+package com.ems.benchmarks.load;
+
+import com.ems.EmployeeManagementApplication;
+import com.ems.benchmarks.BenchmarkDatabase;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots {@link EmployeeManagementApplication} in this JVM against an in-memory database (H2 in MySQL mode)
+ * and a {@link LocalIdentityProvider}, then drives a mixed workload at a fixed arrival rate and prints
+ * throughput and latency percentiles per endpoint.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.ems.benchmarks.load.LoadTest --load.rate=300 --load.duration=2m \
+ *     --load.mix=get-by-id:60,search:20,create:8,update:5,bulk:2,login:5
+ * </pre>
+ *
+ * Options (defaults in brackets):
+ * <ul>
+ *   <li>{@code --load.rate} requests per second offered [200]</li>
+ *   <li>{@code --load.duration} measured run length [60s]; {@code --load.warmup} unmeasured lead-in [15s]</li>
+ *   <li>{@code --load.mix} scenario weights [get-by-id:60,search:20,create:8,update:5,bulk:2,login:5]</li>
+ *   <li>{@code --load.seed-rows} employees loaded before the run [10000]; {@code --load.bulk-size} rows per
+ *       add-Multiple request [20]</li>
+ *   <li>{@code --load.users} distinct signed tokens the requests rotate through [50]</li>
+ *   <li>{@code --load.token-latency} added delay on the stub token endpoint used by login [0ms]</li>
+ *   <li>{@code --load.max-in-flight} outstanding requests before new ones are dropped [5000]</li>
+ * </ul>
+ * Any other argument is passed to the application, e.g. {@code --ems.cache.employees.enabled=false}.
+ */
+public final class LoadTest {
+
+    private static final String OPTION_PREFIX = "--load.";
+    private static final String DEFAULT_MIX = "get-by-id:60,search:20,create:8,update:5,bulk:2,login:5";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(OPTION_PREFIX) && arg.contains("=")) {
+                int split = arg.indexOf('=');
+                options.put(arg.substring(OPTION_PREFIX.length(), split), arg.substring(split + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "60s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "15s"));
+        int seedRows = Integer.parseInt(options.getOrDefault("seed-rows", "10000"));
+        int bulkSize = Integer.parseInt(options.getOrDefault("bulk-size", "20"));
+        int users = Integer.parseInt(options.getOrDefault("users", "50"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "5000"));
+        Duration tokenLatency = DurationStyle.detectAndParse(options.getOrDefault("token-latency", "0ms"));
+        String mix = options.getOrDefault("mix", DEFAULT_MIX);
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try (LocalIdentityProvider identityProvider = new LocalIdentityProvider(tokenLatency);
+             ConfigurableApplicationContext context = startApplication(identityProvider, applicationArgs)) {
+
+            BenchmarkDatabase.seed(context.getBean(DataSource.class), 0, seedRows);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            List<String> tokens = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                tokens.add(identityProvider.mintToken(BenchmarkDatabase.email(i), List.of("FULL_ACCESS")));
+            }
+
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+            List<Scenario> scenarios = applyMix(
+                new Workload("http://127.0.0.1:" + port, tokens, seedRows, bulkSize).scenarios(), mix);
+
+            System.out.printf("Offering %.0f req/s for %s after %s warm-up (mix %s, %d seeded rows)%n",
+                rate, duration, warmup, mix, seedRows);
+            OpenLoopDriver driver = new OpenLoopDriver(client, scenarios, rate, maxInFlight);
+            if (!warmup.isZero()) {
+                driver.run(warmup);
+            }
+            driver.run(duration).print(System.out);
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LocalIdentityProvider identityProvider,
+                                                                   List<String> extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--management.server.port=0",
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.sql.init.mode=always",
+            "--spring.sql.init.schema-locations=classpath:schema-h2.sql",
+            "--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + identityProvider.issuerUri(),
+            "--keycloak.auth-server-url=" + identityProvider.baseUrl(),
+            "--logging.level.root=WARN",
+            "--logging.level.com.ems=WARN",
+            "--logging.level.com.ems.mapper=WARN",
+            "--logging.level.org.springframework.security=WARN",
+            "--logging.level.org.keycloak=WARN",
+            // Executor threads outlive the embedded Tomcat during shutdown; its leak warnings are noise here
+            "--logging.level.org.apache.catalina.loader=ERROR"));
+        args.addAll(extraArgs);
+        return SpringApplication.run(EmployeeManagementApplication.class, args.toArray(new String[0]));
+    }
+
+    private static List<Scenario> applyMix(List<Scenario> scenarios, String mix) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(parts[0], Integer.parseInt(parts[1]));
+        }
+
+        List<Scenario> weighted = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            Integer weight = weights.remove(scenario.getName());
+            if (weight != null && weight > 0) {
+                weighted.add(scenario.withWeight(weight));
+            }
+        }
+        if (!weights.isEmpty()) {
+            throw new IllegalArgumentException("Unknown scenarios in --load.mix: " + weights.keySet());
+        }
+        return weighted;
+    }
+
+    /**
+     * The requests of each scenario. Reads and updates target seeded rows; creates use fresh emails.
+     */
+    private static final class Workload {
+        private final String baseUrl;
+        private final List<String> tokens;
+        private final int seedRows;
+        private final int bulkSize;
+
+        private Workload(String baseUrl, List<String> tokens, int seedRows, int bulkSize) {
+            this.baseUrl = baseUrl;
+            this.tokens = tokens;
+            this.seedRows = seedRows;
+            this.bulkSize = bulkSize;
+        }
+
+        List<Scenario> scenarios() {
+            return List.of(
+                new Scenario("get-by-id", 0, seq -> authorized("/api/employees/" + (randomRow() + 1)).GET().build()),
+                new Scenario("search", 0, seq -> authorized("/api/employees/search?department="
+                    + BenchmarkDatabase.department(randomRow()) + "&size=20").GET().build()),
+                new Scenario("create", 0, seq -> authorized("/api/employees/add")
+                    .POST(json(employeeJson("load-create-" + seq))).build()),
+                new Scenario("update", 0, seq -> {
+                    int row = randomRow();
+                    return authorized("/api/employees/update/" + (row + 1))
+                        .PUT(json(employeeJson(row))).build();
+                }),
+                new Scenario("bulk", 0, seq -> {
+                    StringBuilder body = new StringBuilder("[");
+                    for (int i = 0; i < bulkSize; i++) {
+                        body.append(i > 0 ? "," : "").append(employeeJson("load-bulk-" + seq + "-" + i));
+                    }
+                    return authorized("/api/employees/add-Multiple").POST(json(body.append(']').toString())).build();
+                }),
+                new Scenario("login", 0, seq -> request("/api/auth/login")
+                    .POST(json("{\"email\":\"" + BenchmarkDatabase.email(randomRow()) + "\",\"password\":\""
+                        + BenchmarkDatabase.DEFAULT_PASSWORD + "\"}")).build()));
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json");
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            String token = tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+            return request(path).header("Authorization", "Bearer " + token);
+        }
+
+        private static HttpRequest.BodyPublisher json(String body) {
+            return HttpRequest.BodyPublishers.ofString(body);
+        }
+
+        private int randomRow() {
+            return ThreadLocalRandom.current().nextInt(seedRows);
+        }
+
+        private static String employeeJson(String key) {
+            return "{\"name\":\"Load " + key + "\",\"email\":\"" + key + "@load.test\",\"phone\":\"555-0000000\","
+                + "\"department\":\"Engineering\",\"password\":\"" + BenchmarkDatabase.DEFAULT_PASSWORD
+                + "\",\"role\":\"EMPLOYEE\"}";
+        }
+
+        private static String employeeJson(int row) {
+            return "{\"name\":\"" + BenchmarkDatabase.name(row) + "\",\"email\":\"" + BenchmarkDatabase.email(row)
+                + "\",\"phone\":\"555-0000000\",\"department\":\"" + BenchmarkDatabase.department(row)
+                + "\",\"password\":\"" + BenchmarkDatabase.DEFAULT_PASSWORD + "\",\"role\":\""
+                + BenchmarkDatabase.role(row) + "\"}";
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.ems.benchmarks.load;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stands in for the Keycloak realm: serves the realm's JWKS and a token endpoint, and signs access tokens
+ * with a locally generated RSA key. Tokens carry the same claims the API reads from Keycloak tokens.
+ * The token endpoint can be slowed down to approximate Keycloak's password grant.
+ */
+public class LocalIdentityProvider implements AutoCloseable {
+
+    public static final String REALM = "employee-realm";
+    public static final String CLIENT_ID = "employee-api-client";
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+
+    private final RSAKey signingKey;
+    private final RSASSASigner signer;
+    private final HttpServer server;
+    private final ExecutorService serverExecutor;
+    private final Duration tokenLatency;
+
+    public LocalIdentityProvider(Duration tokenLatency) throws IOException, JOSEException {
+        this.tokenLatency = tokenLatency;
+        this.signingKey = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+        this.signer = new RSASSASigner(signingKey);
+
+        String realmPath = "/realms/" + REALM + "/protocol/openid-connect";
+        String jwks = new JWKSet(signingKey.toPublicJWK()).toString();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(realmPath + "/certs", exchange -> respond(exchange, 200, jwks));
+        server.createContext(realmPath + "/token", this::issueToken);
+        this.serverExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String issuerUri() {
+        return baseUrl() + "/realms/" + REALM;
+    }
+
+    /**
+     * Signs an access token for the given user with the given realm roles.
+     */
+    public String mintToken(String email, List<String> realmRoles) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .issuer(issuerUri())
+            .subject(UUID.nameUUIDFromBytes(email.getBytes(StandardCharsets.UTF_8)).toString())
+            .jwtID(UUID.randomUUID().toString())
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+            .audience("account")
+            .claim("azp", CLIENT_ID)
+            .claim("typ", "Bearer")
+            .claim("preferred_username", email)
+            .claim("email", email)
+            .claim("realm_access", Map.of("roles", realmRoles))
+            .build();
+        SignedJWT jwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).type(JOSEObjectType.JWT).build(),
+            claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign token", e);
+        }
+        return jwt.serialize();
+    }
+
+    private void issueToken(HttpExchange exchange) throws IOException {
+        String form = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String username = "service-account-" + CLIENT_ID;
+        for (String pair : form.split("&")) {
+            if (pair.startsWith("username=")) {
+                username = URLDecoder.decode(pair.substring("username=".length()), StandardCharsets.UTF_8);
+            }
+        }
+
+        if (!tokenLatency.isZero()) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(tokenLatency.toNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String token = mintToken(username, List.of("READ_EMPLOYEES"));
+        respond(exchange, 200, "{\"access_token\":\"" + token + "\",\"token_type\":\"Bearer\",\"expires_in\":"
+            + TOKEN_LIFETIME.getSeconds() + "}");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ems.benchmarks.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issues requests on a fixed schedule regardless of how fast responses come back (an open workload), so a
+ * slow server builds up a queue instead of quietly lowering the offered load. Requests that would exceed
+ * {@code maxInFlight} are counted as dropped rather than sent.
+ */
+public class OpenLoopDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client;
+    private final List<Scenario> scenarios;
+    private final int[] cumulativeWeights;
+    private final double requestsPerSecond;
+    private final int maxInFlight;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public OpenLoopDriver(HttpClient client, List<Scenario> scenarios, double requestsPerSecond, int maxInFlight) {
+        this.client = client;
+        this.scenarios = scenarios;
+        this.requestsPerSecond = requestsPerSecond;
+        this.maxInFlight = maxInFlight;
+        this.cumulativeWeights = new int[scenarios.size()];
+        int total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            total += scenarios.get(i).getWeight();
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one scenario needs a positive weight");
+        }
+    }
+
+    public LatencyReport run(Duration duration) {
+        LatencyReport report = new LatencyReport(scenarios);
+        AtomicInteger inFlight = new AtomicInteger();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Scenario scenario = pick();
+            if (inFlight.get() >= maxInFlight) {
+                report.dropped(scenario);
+                continue;
+            }
+
+            long scheduledStart = scheduled;
+            inFlight.incrementAndGet();
+            client.sendAsync(scenario.newRequest(sequence.getAndIncrement()), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    report.record(scenario, scheduledStart, System.nanoTime(), response != null ? response.statusCode() : -1);
+                    inFlight.decrementAndGet();
+                });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        report.finish(end - start, System.nanoTime() - end);
+        return report;
+    }
+
+    private Scenario pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.ems.benchmarks.load;
+
+import java.net.http.HttpRequest;
+import java.util.function.LongFunction;
+
+/**
+ * One kind of request in the workload mix, picked with probability proportional to its weight.
+ * The request factory receives a sequence number that is unique across the run.
+ */
+public final class Scenario {
+
+    private final String name;
+    private final int weight;
+    private final LongFunction<HttpRequest> requestFactory;
+
+    public Scenario(String name, int weight, LongFunction<HttpRequest> requestFactory) {
+        this.name = name;
+        this.weight = weight;
+        this.requestFactory = requestFactory;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public HttpRequest newRequest(long sequence) {
+        return requestFactory.apply(sequence);
+    }
+
+    public Scenario withWeight(int newWeight) {
+        return new Scenario(name, newWeight, requestFactory);
+    }
+}
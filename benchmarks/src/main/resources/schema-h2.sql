@@ -0,0 +1,52 @@
+CREATE TABLE employees (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    phone VARCHAR(20),
+    department VARCHAR(100),
+    role VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version INT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE import_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    status VARCHAR(16) NOT NULL,
+    file_name VARCHAR(255),
+    staged_path VARCHAR(1024) NOT NULL,
+    created_by VARCHAR(255),
+    estimated_rows INT NOT NULL DEFAULT 0,
+    checkpoint_row INT NOT NULL DEFAULT 0,
+    processed_rows INT NOT NULL DEFAULT 0,
+    inserted INT NOT NULL DEFAULT 0,
+    skipped INT NOT NULL DEFAULT 0,
+    failed INT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    run_start_rows INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(1024),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_import_jobs_status ON import_jobs(status, created_at);
+
+CREATE TABLE audit_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    occurred_at TIMESTAMP(3) NOT NULL,
+    actor VARCHAR(255),
+    client_id VARCHAR(255),
+    action VARCHAR(64),
+    http_method VARCHAR(8) NOT NULL,
+    path VARCHAR(1024) NOT NULL,
+    target VARCHAR(64),
+    detail VARCHAR(255),
+    status INT NOT NULL,
+    duration_micros BIGINT NOT NULL
+);
+
+CREATE INDEX idx_audit_events_occurred_at ON audit_events(occurred_at);
+CREATE INDEX idx_audit_events_actor ON audit_events(actor, occurred_at);
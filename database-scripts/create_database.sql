@@ -3,6 +3,8 @@ CREATE DATABASE IF NOT EXISTS emsdb;
 USE emsdb;
 
 -- Create employees table
+-- version is bumped by every write and served as the ETag; existing databases need:
+--   ALTER TABLE employees ADD COLUMN version INT NOT NULL DEFAULT 0;
 CREATE TABLE employees (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
@@ -12,10 +14,64 @@ CREATE TABLE employees (
     department VARCHAR(100),
     role VARCHAR(50) NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    version INT NOT NULL DEFAULT 0
 );
 
 -- Create indexes for better performance
 CREATE INDEX idx_employees_email ON employees(email);
 CREATE INDEX idx_employees_department ON employees(department);
-CREATE INDEX idx_employees_role ON employees(role);
\ No newline at end of file
+CREATE INDEX idx_employees_role ON employees(role);
+CREATE INDEX idx_employees_name ON employees(name);
+CREATE INDEX idx_employees_created_at_id ON employees(created_at, id);
+
+-- ngram FULLTEXT indexes for substring search (ems.search.mode=fulltext).
+-- The ngram parser drops every token that contains a stopword, so stopwords must be off when the indexes are built.
+SET SESSION innodb_ft_enable_stopword = OFF;
+CREATE FULLTEXT INDEX ft_employees_name ON employees(name) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_employees_email ON employees(email) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_employees_department ON employees(department) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_employees_role ON employees(role) WITH PARSER ngram;
+
+-- Background CSV import jobs (POST /api/employees/bulk-upload).
+-- checkpoint_row is the last CSV row committed; a resumed job continues after it.
+CREATE TABLE import_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    status VARCHAR(16) NOT NULL,
+    file_name VARCHAR(255),
+    staged_path VARCHAR(1024) NOT NULL,
+    created_by VARCHAR(255),
+    estimated_rows INT NOT NULL DEFAULT 0,
+    checkpoint_row INT NOT NULL DEFAULT 0,
+    processed_rows INT NOT NULL DEFAULT 0,
+    inserted INT NOT NULL DEFAULT 0,
+    skipped INT NOT NULL DEFAULT 0,
+    failed INT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    run_start_rows INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(1024),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_import_jobs_status ON import_jobs(status, created_at);
+
+-- Audit trail written in batches by the background audit writer (ems.audit.sink=table)
+CREATE TABLE audit_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    occurred_at TIMESTAMP(3) NOT NULL,
+    actor VARCHAR(255),
+    client_id VARCHAR(255),
+    action VARCHAR(64),
+    http_method VARCHAR(8) NOT NULL,
+    path VARCHAR(1024) NOT NULL,
+    target VARCHAR(64),
+    detail VARCHAR(255),
+    status INT NOT NULL,
+    duration_micros BIGINT NOT NULL
+);
+
+CREATE INDEX idx_audit_events_occurred_at ON audit_events(occurred_at);
+CREATE INDEX idx_audit_events_actor ON audit_events(actor, occurred_at);
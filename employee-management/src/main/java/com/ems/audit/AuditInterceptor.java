@@ -0,0 +1,92 @@
+package com.ems.audit;
+
+import com.ems.model.AuditEvent;
+import com.ems.util.ClientUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Resolves the caller once per request and, when the request completes, records one {@link AuditEvent}
+ * with the handler, path variable, status and duration. Asynchronous handlers are recorded once, after
+ * their result has been written.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ACTOR_ATTRIBUTE = AuditInterceptor.class.getName() + ".actor";
+    private static final String CLIENT_ID_ATTRIBUTE = AuditInterceptor.class.getName() + ".clientId";
+    private static final String START_ATTRIBUTE = AuditInterceptor.class.getName() + ".start";
+    private static final String DETAIL_ATTRIBUTE = AuditInterceptor.class.getName() + ".detail";
+
+    private final AuditLog auditLog;
+
+    /**
+     * The caller of the current request, resolved from the token at most once per request.
+     */
+    public static String currentActor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object actor = attributes != null ? attributes.getAttribute(ACTOR_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+        return actor != null ? (String) actor : ClientUtils.getCurrentUserEmail();
+    }
+
+    /**
+     * Attaches a short free-form detail (e.g. the id of a created employee) to the current request's audit event.
+     */
+    public static void describe(String detail) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(DETAIL_ATTRIBUTE, detail, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async handlers are dispatched twice; keep what the first dispatch resolved
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            request.setAttribute(ACTOR_ATTRIBUTE, ClientUtils.getCurrentUserEmail());
+            request.setAttribute(CLIENT_ID_ATTRIBUTE, ClientUtils.getClientId());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        long durationMicros = start != null ? (System.nanoTime() - (Long) start) / 1000 : 0;
+
+        auditLog.record(new AuditEvent(
+            Instant.now(),
+            (String) request.getAttribute(ACTOR_ATTRIBUTE),
+            (String) request.getAttribute(CLIENT_ID_ATTRIBUTE),
+            handler instanceof HandlerMethod ? ((HandlerMethod) handler).getMethod().getName() : null,
+            request.getMethod(),
+            request.getRequestURI(),
+            target(request),
+            (String) request.getAttribute(DETAIL_ATTRIBUTE),
+            response.getStatus(),
+            durationMicros
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String target(HttpServletRequest request) {
+        Map<String, String> variables =
+            (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.isEmpty()) {
+            return null;
+        }
+        return variables.values().iterator().next();
+    }
+}
@@ -0,0 +1,98 @@
+package com.ems.audit;
+
+import com.ems.model.AuditEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous audit trail. {@link #record} only publishes to a lock-free ring buffer; a single background
+ * thread drains it in batches of up to {@code batchSize} and hands each batch to the configured
+ * {@link AuditSink}. When the buffer is full, or the sink keeps failing, events are dropped and counted
+ * rather than slowing down requests.
+ */
+@Component
+@Slf4j
+public class AuditLog {
+
+    private final AuditRingBuffer buffer;
+    private final AuditSink sink;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Thread writer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private volatile boolean running = true;
+
+    public AuditLog(AuditSink sink,
+                    MeterRegistry meterRegistry,
+                    @Value("${ems.audit.buffer-size:8192}") int bufferSize,
+                    @Value("${ems.audit.batch-size:500}") int batchSize,
+                    @Value("${ems.audit.flush-interval:200ms}") Duration flushInterval) {
+        this.sink = sink;
+        this.buffer = new AuditRingBuffer(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.written = meterRegistry.counter("ems.audit.events", "outcome", "written");
+        this.dropped = meterRegistry.counter("ems.audit.events", "outcome", "dropped");
+        this.failed = meterRegistry.counter("ems.audit.events", "outcome", "failed");
+        Gauge.builder("ems.audit.buffer.size", buffer, AuditRingBuffer::size)
+            .description("Audit events waiting for the writer")
+            .register(meterRegistry);
+
+        this.writer = new Thread(this::drainLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Audit log writing to {} with buffer capacity {}", sink.getClass().getSimpleName(), buffer.capacity());
+    }
+
+    public void record(AuditEvent event) {
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+            flush(batch);
+        }
+        // Shutting down: write whatever is left
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        try {
+            sink.write(batch);
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.warn("Could not write {} audit events: {}", batch.size(), e.getMessage());
+        }
+        batch.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(Duration.ofSeconds(10).toMillis());
+        sink.close();
+    }
+}
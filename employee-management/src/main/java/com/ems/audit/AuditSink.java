@@ -0,0 +1,16 @@
+package com.ems.audit;
+
+import com.ems.model.AuditEvent;
+
+import java.util.List;
+
+/**
+ * Durable destination for audit events. Called from the audit writer thread only.
+ */
+public interface AuditSink {
+
+    void write(List<AuditEvent> events) throws Exception;
+
+    default void close() throws Exception {
+    }
+}
@@ -0,0 +1,68 @@
+package com.ems.audit;
+
+import com.ems.model.AuditEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Appends each batch as JSON lines to {@code audit-yyyy-MM-dd.jsonl} in the configured directory, starting
+ * a new file at midnight UTC.
+ */
+@Component
+@ConditionalOnProperty(name = "ems.audit.sink", havingValue = "file")
+public class FileAuditSink implements AuditSink {
+
+    private final Path directory;
+    private final ObjectWriter jsonWriter;
+    private LocalDate currentDay;
+    private BufferedWriter out;
+
+    public FileAuditSink(@Value("${ems.audit.file.dir:logs/audit}") String directory, ObjectMapper objectMapper) {
+        this.directory = Paths.get(directory);
+        this.jsonWriter = objectMapper.writerFor(AuditEvent.class);
+    }
+
+    @Override
+    public void write(List<AuditEvent> events) throws IOException {
+        BufferedWriter writer = writerFor(LocalDate.now(ZoneOffset.UTC));
+        for (AuditEvent event : events) {
+            writer.write(jsonWriter.writeValueAsString(event));
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    private BufferedWriter writerFor(LocalDate day) throws IOException {
+        if (!day.equals(currentDay)) {
+            close();
+            Files.createDirectories(directory);
+            out = Files.newBufferedWriter(directory.resolve("audit-" + day + ".jsonl"), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            currentDay = day;
+        }
+        return out;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+            currentDay = null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.ems.audit;
+
+import com.ems.mapper.AuditEventMapper;
+import com.ems.model.AuditEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes each batch to {@code audit_events} with a single multi-row INSERT.
+ */
+@Component
+@ConditionalOnProperty(name = "ems.audit.sink", havingValue = "table", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TableAuditSink implements AuditSink {
+
+    private final AuditEventMapper auditEventMapper;
+
+    @Override
+    public void write(List<AuditEvent> events) {
+        auditEventMapper.insertBatch(events);
+    }
+}
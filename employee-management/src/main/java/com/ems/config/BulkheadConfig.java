@@ -0,0 +1,56 @@
+package com.ems.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+@Configuration
+public class BulkheadConfig {
+
+    @Value("${ems.bulkhead.bulk-write.threads:2}")
+    private int bulkWriteThreads;
+
+    @Value("${ems.bulkhead.bulk-write.queue-capacity:8}")
+    private int bulkWriteQueueCapacity;
+
+    @Value("${ems.import.jobs.threads:1}")
+    private int importJobThreads;
+
+    @Value("${ems.import.jobs.queue-capacity:32}")
+    private int importJobQueueCapacity;
+
+    /**
+     * Runs /add-Multiple off the Tomcat worker pool so that a handful of large requests cannot
+     * occupy the threads serving reads. Submissions beyond the queue capacity are rejected and
+     * answered with 503 instead of waiting.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor bulkWriteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(bulkWriteThreads);
+        executor.setMaxPoolSize(bulkWriteThreads);
+        executor.setQueueCapacity(bulkWriteQueueCapacity);
+        executor.setThreadNamePrefix("bulk-write-");
+        // Service code reads the caller from the SecurityContext, which is thread-bound
+        executor.setTaskDecorator(task -> DelegatingSecurityContextRunnable.create(task, null));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs background CSV import jobs. Jobs are long-running, so they get their own small pool rather
+     * than tying up the bulk-write threads. A job cut off by shutdown is re-queued at the next startup.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(importJobThreads);
+        executor.setMaxPoolSize(importJobThreads);
+        executor.setQueueCapacity(importJobQueueCapacity);
+        executor.setThreadNamePrefix("import-job-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ems.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+@Slf4j
+public class CacheConfig {
+
+    public static final String EMPLOYEES_CACHE = "employees";
+
+    @Value("${ems.cache.employees.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ems.cache.employees.max-size:10000}")
+    private long maxSize;
+
+    @Value("${ems.cache.employees.ttl:5m}")
+    private Duration ttl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        if (!enabled) {
+            log.info("Employee cache disabled, reads go straight to the database");
+            return new NoOpCacheManager();
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(EMPLOYEES_CACHE) {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new InvalidationGuardedCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats());
+        cacheManager.setAllowNullValues(false);
+
+        // Defer puts and evictions until the surrounding transaction commits, so uncommitted rows are never
+        // cached and a rolled-back write evicts nothing. A read that loaded the old row before the commit
+        // would put it back after the eviction; InvalidationGuardedCaffeineCache drops that put
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ems.config;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caffeine cache that drops a put whose value may have been loaded before an eviction of the same key.
+ * <p>
+ * A miss remembers, on the calling thread, how many times the key had been invalidated when it was looked
+ * up. The put that follows on that thread (after the read transaction commits, when wrapped by the
+ * transaction-aware proxy) is only stored if no eviction of that key and no clear happened in between.
+ * Otherwise a reader that loaded the old row just before a writer committed could put it back just after
+ * the writer's after-commit eviction, and the stale row would be served until it expired.
+ * <p>
+ * Invalidations are counted per stripe of keys rather than per key, so an eviction can also drop a
+ * concurrent put of an unrelated key in the same stripe; that only costs one extra database read.
+ */
+class InvalidationGuardedCaffeineCache extends CaffeineCache {
+
+    private static final int STRIPES = 64;
+
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+    private final AtomicLong clears = new AtomicLong();
+    private final ThreadLocal<Miss> lastMiss = new ThreadLocal<>();
+
+    InvalidationGuardedCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                     boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        // Read the count before the value, so an eviction racing with this lookup is never missed
+        long generation = generation(key);
+        Object value = super.lookup(key);
+        if (value == null) {
+            lastMiss.set(new Miss(key, generation));
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (unchangedSinceMiss(key)) {
+            super.put(key, value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (unchangedSinceMiss(key)) {
+            return super.putIfAbsent(key, value);
+        }
+        return get(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.incrementAndGet(stripe(key));
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictions.incrementAndGet(stripe(key));
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        clears.incrementAndGet();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        clears.incrementAndGet();
+        return super.invalidate();
+    }
+
+    private boolean unchangedSinceMiss(Object key) {
+        Miss miss = lastMiss.get();
+        lastMiss.remove();
+        return miss != null && miss.key.equals(key) && miss.generation == generation(key);
+    }
+
+    // Both counters only grow, so their sum changes whenever either does
+    private long generation(Object key) {
+        return evictions.get(stripe(key)) + clears.get();
+    }
+
+    private static int stripe(Object key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+
+    private static final class Miss {
+
+        private final Object key;
+        private final long generation;
+
+        private Miss(Object key, long generation) {
+            this.key = key;
+            this.generation = generation;
+        }
+    }
+}
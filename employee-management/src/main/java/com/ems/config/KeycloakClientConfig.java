@@ -0,0 +1,82 @@
+package com.ems.config;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class KeycloakClientConfig {
+
+    @Value("${ems.keycloak-client.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${ems.keycloak-client.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${ems.keycloak-client.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${ems.keycloak-client.pool-acquire-timeout:1s}")
+    private Duration poolAcquireTimeout;
+
+    @Value("${ems.keycloak-client.idle-timeout:30s}")
+    private Duration idleTimeout;
+
+    @Value("${ems.keycloak-client.login-queue-capacity:200}")
+    private int loginQueueCapacity;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient keycloakHttpClient() {
+        // All calls go to the one Keycloak host, so the whole pool is available to that route
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity((int) idleTimeout.toMillis());
+
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout((int) connectTimeout.toMillis())
+            .setSocketTimeout((int) readTimeout.toMillis())
+            .setConnectionRequestTimeout((int) poolAcquireTimeout.toMillis())
+            .build();
+
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+            .evictIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .evictExpiredConnections()
+            .build();
+    }
+
+    @Bean
+    public RestTemplate keycloakRestTemplate(CloseableHttpClient keycloakHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(keycloakHttpClient));
+    }
+
+    /**
+     * Runs the blocking token-endpoint calls for /api/auth/login so they do not hold a servlet thread. Each
+     * call holds one pooled connection for its whole duration, so there is one thread per connection: more
+     * threads would only wait on the connection pool, fewer would leave connections idle.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor loginExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConnections);
+        executor.setMaxPoolSize(maxConnections);
+        executor.setQueueCapacity(loginQueueCapacity);
+        executor.setThreadNamePrefix("keycloak-login-");
+        executor.initialize();
+        return executor;
+    }
+}
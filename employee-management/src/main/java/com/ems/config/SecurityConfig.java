@@ -1,25 +1,36 @@
 package com.ems.config;
 
+import com.ems.security.CachingJwkSetSource;
+import com.ems.security.KeycloakAuthoritiesConverter;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
@@ -29,8 +40,30 @@ public class SecurityConfig {
     @Value("${keycloak.resource}")
     private String clientId;
 
+    @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}")
+    private String issuerUri;
+
+    @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}")
+    private String jwkSetUri;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    @Value("${ems.security.authorities-cache-size:10000}")
+    private long authoritiesCacheSize;
+
+    @Value("${ems.security.jwks.refresh-interval:5m}")
+    private Duration jwksRefreshInterval;
+
+    @Value("${ems.security.jwks.min-refresh-interval:30s}")
+    private Duration jwksMinRefreshInterval;
+
+    @Value("${ems.security.jwks.max-staleness:24h}")
+    private Duration jwksMaxStaleness;
+
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           JwtAuthenticationConverter jwtAuthenticationConverter) throws Exception {
         http
             .cors().and()
             .csrf().disable()
@@ -39,71 +72,92 @@ public class SecurityConfig {
             .authorizeRequests(authz -> authz
                 // Public endpoints
                 .antMatchers("/health", "/migrate-passwords", "/api/auth/**").permitAll()
+                .antMatchers("GET", "/actuator/health").permitAll()
+                // Scraped by Prometheus on the management port only; on the API port it needs a token
+                .requestMatchers(prometheusScrape()).permitAll()
                 .antMatchers("/swagger-ui/**", "/swagger-ui.html", "/swagger-resources/**", "/v2/api-docs", "/v3/api-docs/**").permitAll()
                 .antMatchers("/webjars/**").permitAll()
                 // READ operations
                 .antMatchers("GET", "/api/employees/search").hasAnyRole("READ_EMPLOYEES", "FULL_ACCESS", "CLIENT_READ")
+                .antMatchers("GET", "/api/employees/facets").hasAnyRole("READ_EMPLOYEES", "FULL_ACCESS", "CLIENT_READ")
+                .antMatchers("GET", "/api/employees/export").hasAnyRole("READ_EMPLOYEES", "FULL_ACCESS", "CLIENT_READ")
                 .antMatchers("GET", "/api/employees/{id}").hasAnyRole("READ_EMPLOYEES", "FULL_ACCESS", "CLIENT_READ")
                 // CREATE operations
                 .antMatchers("POST", "/api/employees/add").hasAnyRole("CREATE_EMPLOYEES", "FULL_ACCESS", "CLIENT_WRITE")
                 .antMatchers("POST", "/api/employees/add-Multiple").hasAnyRole("FULL_ACCESS", "CLIENT_WRITE")
                 .antMatchers("POST", "/api/employees/bulk-upload").hasAnyRole("FULL_ACCESS", "CLIENT_WRITE")
+                .antMatchers("/api/employees/import-jobs/**").hasAnyRole("FULL_ACCESS", "CLIENT_WRITE")
                 // UPDATE operations
                 .antMatchers("PUT", "/api/employees/update/**").hasAnyRole("UPDATE_EMPLOYEES", "FULL_ACCESS", "CLIENT_WRITE")
+                .antMatchers("PATCH", "/api/employees/{id}").hasAnyRole("UPDATE_EMPLOYEES", "FULL_ACCESS", "CLIENT_WRITE")
+                .antMatchers("PUT", "/api/employees/bulk-update").hasAnyRole("FULL_ACCESS", "CLIENT_WRITE")
                 // DELETE operations
                 .antMatchers("DELETE", "/api/employees/delete/**").hasAnyRole("DELETE_EMPLOYEES", "FULL_ACCESS", "CLIENT_WRITE")
+                .antMatchers("POST", "/api/employees/bulk-delete").hasAnyRole("FULL_ACCESS", "CLIENT_WRITE")
                 // Admin endpoints
                 .antMatchers("/api/admin/**").authenticated()
                 .anyRequest().authenticated()
             )
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter()))
+                .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter))
             );
 
         return http.build();
     }
 
+    /**
+     * GET /actuator/prometheus arriving on {@code management.server.port}. Never matches when the actuator
+     * shares the API port or listens on a random one.
+     */
+    private RequestMatcher prometheusScrape() {
+        return new AndRequestMatcher(
+            new AntPathRequestMatcher("/actuator/prometheus", "GET"),
+            (HttpServletRequest request) -> managementPort > 0 && request.getLocalPort() == managementPort);
+    }
+
     @Bean
-    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+    public JwtAuthenticationConverter jwtAuthenticationConverter(KeycloakAuthoritiesConverter keycloakAuthoritiesConverter) {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(jwt -> {
-            Collection<GrantedAuthority> authorities = new ArrayList<>();
-
-            // Extract user realm roles
-            Map<String, Object> realmAccess = jwt.getClaim("realm_access");
-            if (realmAccess != null && realmAccess.get("roles") != null) {
-                @SuppressWarnings("unchecked")
-                List<String> roles = (List<String>) realmAccess.get("roles");
-                authorities.addAll(roles.stream()
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                    .collect(Collectors.toList()));
-            }
-
-            // Extract client resource roles
-            Map<String, Object> resourceAccess = jwt.getClaim("resource_access");
-            if (resourceAccess != null) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> clientAccess = (Map<String, Object>) resourceAccess.get(clientId);
-                if (clientAccess != null && clientAccess.get("roles") != null) {
-                    @SuppressWarnings("unchecked")
-                    List<String> clientRoles = (List<String>) clientAccess.get("roles");
-                    authorities.addAll(clientRoles.stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                        .collect(Collectors.toList()));
-                }
-            }
-
-            return authorities;
-        });
+        converter.setJwtGrantedAuthoritiesConverter(keycloakAuthoritiesConverter);
         return converter;
     }
 
+    @Bean
+    public KeycloakAuthoritiesConverter keycloakAuthoritiesConverter(MeterRegistry meterRegistry) {
+        return new KeycloakAuthoritiesConverter(clientId, authoritiesCacheSize, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CachingJwkSetSource jwkSetSource() throws MalformedURLException {
+        String uri = jwkSetUri != null && !jwkSetUri.isEmpty()
+            ? jwkSetUri
+            : issuerUri + "/protocol/openid-connect/certs";
+        return new CachingJwkSetSource(new URL(uri), jwksRefreshInterval, jwksMinRefreshInterval, jwksMaxStaleness);
+    }
+
+    /**
+     * Decoder that verifies signatures against the locally cached JWK set instead of fetching
+     * issuer metadata and keys from Keycloak. Issuer, expiry and not-before are still validated.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(CachingJwkSetSource jwkSetSource) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSetSource));
+        // Claims are validated by Spring below
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        return decoder;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.addAllowedOriginPattern("*");
         configuration.addAllowedMethod("*");
         configuration.addAllowedHeader("*");
+        configuration.addExposedHeader(HttpHeaders.ETAG);
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
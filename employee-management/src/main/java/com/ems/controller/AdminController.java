@@ -0,0 +1,28 @@
+package com.ems.controller;
+
+import com.ems.dto.ApiResponse;
+import com.ems.dto.CacheStatsResponse;
+import com.ems.service.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('FULL_ACCESS')")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getCacheStats() {
+        CacheStatsResponse stats = cacheStatsService.getEmployeeCacheStats();
+        return ResponseEntity.ok(ApiResponse.success(stats, "Employee cache statistics"));
+    }
+}
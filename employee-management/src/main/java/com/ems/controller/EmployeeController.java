@@ -1,116 +1,230 @@
 package com.ems.controller;
 
+import com.ems.audit.AuditInterceptor;
 import com.ems.dto.ApiResponse;
+import com.ems.dto.BulkChangeResponse;
+import com.ems.dto.BulkDeleteRequest;
+import com.ems.dto.BulkUpdateRequest;
+import com.ems.dto.EmployeeFacetsResponse;
+import com.ems.dto.EmployeeField;
+import com.ems.dto.EmployeePatchRequest;
 import com.ems.dto.EmployeeRequest;
 import com.ems.dto.EmployeeResponse;
+import com.ems.dto.ExportFormat;
+import com.ems.dto.ImportJobResponse;
+import com.ems.dto.PageResponse;
 import com.ems.service.EmployeeService;
-import com.ems.util.ClientUtils;
+import com.ems.service.ImportJobService;
+import com.ems.util.EntityTags;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/employees")
 @RequiredArgsConstructor
 @Validated
-@Slf4j
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final ImportJobService importJobService;
+    private final ThreadPoolTaskExecutor bulkWriteExecutor;
 
     @PostMapping("/add")
     @PreAuthorize("hasAnyRole('CREATE_EMPLOYEES', 'FULL_ACCESS', 'CLIENT_WRITE')")
     public ResponseEntity<ApiResponse<EmployeeResponse>> createEmployee(@Valid @RequestBody EmployeeRequest request) {
-        log.info("Creating employee with email: {} by user: {}", request.getEmail(), ClientUtils.getCurrentUserEmail());
-        
         EmployeeResponse employee = employeeService.createEmployee(request);
+        AuditInterceptor.describe("id=" + employee.getId());
         ApiResponse<EmployeeResponse> response = ApiResponse.created(employee, "Employee created successfully");
         
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .eTag(EntityTags.of(employee.getVersion()))
+            .body(response);
     }
 
     @PostMapping("/add-Multiple")
     @PreAuthorize("hasAnyRole('FULL_ACCESS', 'CLIENT_WRITE')")
-    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> createMultipleEmployees(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<EmployeeResponse>>>> createMultipleEmployees(
             @Valid @RequestBody List<EmployeeRequest> requests) {
-        log.info("Creating {} employees by user: {}", requests.size(), ClientUtils.getCurrentUserEmail());
-        
-        List<EmployeeResponse> employees = employeeService.createMultipleEmployees(requests);
-        ApiResponse<List<EmployeeResponse>> response = ApiResponse.created(employees, "Employees created successfully");
+        AuditInterceptor.describe("count=" + requests.size());
         
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+        return CompletableFuture.supplyAsync(() -> {
+            List<EmployeeResponse> employees = employeeService.createMultipleEmployees(requests);
+            ApiResponse<List<EmployeeResponse>> response = ApiResponse.created(employees, "Employees created successfully");
+            
+            return new ResponseEntity<>(response, HttpStatus.CREATED);
+        }, bulkWriteExecutor);
     }
 
     @PostMapping(value = "/bulk-upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasAnyRole('FULL_ACCESS', 'CLIENT_WRITE')")
-    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> bulkUpload(
-            @RequestParam("file") MultipartFile file) {
-        try {
-            log.info("Bulk uploading employees from CSV by user: {}", ClientUtils.getCurrentUserEmail());
-            
-            List<EmployeeResponse> employees = employeeService.bulkUploadFromCSV(file);
-            ApiResponse<List<EmployeeResponse>> response = ApiResponse.success(employees, "Upload employees via CSV");
-            
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error uploading CSV: {}", e.getMessage());
-            ApiResponse<List<EmployeeResponse>> response = ApiResponse.error(400, "CSV upload failed: " + e.getMessage());
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<ApiResponse<ImportJobResponse>> bulkUpload(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        ImportJobResponse job = importJobService.submit(file, AuditInterceptor.currentActor());
+        AuditInterceptor.describe("job=" + job.getId());
+        ApiResponse<ImportJobResponse> response = new ApiResponse<>(202, "CSV import queued", job);
+        
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/employees/import-jobs/" + job.getId()))
+            .body(response);
+    }
+
+    @GetMapping("/import-jobs/{jobId}")
+    @PreAuthorize("hasAnyRole('FULL_ACCESS', 'CLIENT_WRITE')")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> getImportJob(@PathVariable String jobId) {
+        ImportJobResponse job = importJobService.getStatus(jobId);
+        return ResponseEntity.ok(ApiResponse.success(job, "Import job status"));
+    }
+
+    @PostMapping("/import-jobs/{jobId}/resume")
+    @PreAuthorize("hasAnyRole('FULL_ACCESS', 'CLIENT_WRITE')")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> resumeImportJob(@PathVariable String jobId) {
+        ImportJobResponse job = importJobService.resume(jobId);
+        ApiResponse<ImportJobResponse> response = new ApiResponse<>(202, "CSV import resumed", job);
+        
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/employees/import-jobs/" + job.getId()))
+            .body(response);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('READ_EMPLOYEES', 'FULL_ACCESS', 'CLIENT_READ')")
-    public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Long id) {
-        log.info("Getting employee by ID: {} by user: {}", id, ClientUtils.getCurrentUserEmail());
-        
+    public ResponseEntity<MappingJacksonValue> getEmployeeById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields) {
+        Set<EmployeeField> selected = EmployeeField.parse(fields);
+        // Single rows come whole from the employees cache; fields= only narrows the JSON
         EmployeeResponse employee = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(employee);
+        // With an ETag on a GET, Spring answers a matching If-None-Match with 304 and no body
+        return ResponseEntity.ok()
+            .eTag(EntityTags.of(employee.getVersion()))
+            .body(withFields(employee, selected));
     }
 
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('READ_EMPLOYEES', 'FULL_ACCESS', 'CLIENT_READ')")
-    public ResponseEntity<List<EmployeeResponse>> searchEmployees(
+    public ResponseEntity<MappingJacksonValue> searchEmployees(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields) {
+        Set<EmployeeField> selected = EmployeeField.parse(fields);
+        PageResponse<EmployeeResponse> page =
+            employeeService.searchEmployees(name, email, department, role, cursor, size, selected);
+        return ResponseEntity.ok(withFields(page, selected));
+    }
+
+    @GetMapping("/facets")
+    @PreAuthorize("hasAnyRole('READ_EMPLOYEES', 'FULL_ACCESS', 'CLIENT_READ')")
+    public ResponseEntity<EmployeeFacetsResponse> getEmployeeFacets(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String email,
             @RequestParam(required = false) String department,
             @RequestParam(required = false) String role) {
-        log.info("Searching employees by user: {}", ClientUtils.getCurrentUserEmail());
+        EmployeeFacetsResponse facets = employeeService.getEmployeeFacets(name, email, department, role);
+        return ResponseEntity.ok(facets);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('READ_EMPLOYEES', 'FULL_ACCESS', 'CLIENT_READ')")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> employeeService.exportEmployees(exportFormat, out);
         
-        List<EmployeeResponse> employees = employeeService.searchEmployees(name, email, department, role);
-        return ResponseEntity.ok(employees);
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"employees." + exportFormat.getFileExtension() + "\"")
+            .body(body);
     }
 
     @PutMapping("/update/{id}")
     @PreAuthorize("hasAnyRole('UPDATE_EMPLOYEES', 'FULL_ACCESS', 'CLIENT_WRITE')")
     public ResponseEntity<ApiResponse<EmployeeResponse>> updateEmployee(
             @PathVariable Long id, 
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody EmployeeRequest request) {
-        log.info("Updating employee ID: {} by user: {}", id, ClientUtils.getCurrentUserEmail());
+        EmployeeResponse employee = employeeService.updateEmployee(id, request, EntityTags.expectedVersion(ifMatch));
+        ApiResponse<EmployeeResponse> response = ApiResponse.success(employee, "Update employee information");
         
-        EmployeeResponse employee = employeeService.updateEmployee(id, request);
+        return ResponseEntity.ok()
+            .eTag(EntityTags.of(employee.getVersion()))
+            .body(response);
+    }
+
+    @PatchMapping("/{id}")
+    @PreAuthorize("hasAnyRole('UPDATE_EMPLOYEES', 'FULL_ACCESS', 'CLIENT_WRITE')")
+    public ResponseEntity<ApiResponse<EmployeeResponse>> patchEmployee(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody EmployeePatchRequest request) {
+        EmployeeResponse employee = employeeService.patchEmployee(id, request, EntityTags.expectedVersion(ifMatch));
         ApiResponse<EmployeeResponse> response = ApiResponse.success(employee, "Update employee information");
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(EntityTags.of(employee.getVersion()))
+            .body(response);
     }
 
     @DeleteMapping("/delete/{id}")
     @PreAuthorize("hasAnyRole('DELETE_EMPLOYEES', 'FULL_ACCESS', 'CLIENT_WRITE')")
-    public ResponseEntity<ApiResponse<String>> deleteEmployee(@PathVariable Long id) {
-        log.info("Deleting employee ID: {} by user: {}", id, ClientUtils.getCurrentUserEmail());
-        
-        employeeService.deleteEmployee(id);
+    public ResponseEntity<ApiResponse<String>> deleteEmployee(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        employeeService.deleteEmployee(id, EntityTags.expectedVersion(ifMatch));
         ApiResponse<String> response = ApiResponse.success(null, "Employee deleted successfully with id " + id);
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @PutMapping("/bulk-update")
+    @PreAuthorize("hasAnyRole('FULL_ACCESS', 'CLIENT_WRITE')")
+    public CompletableFuture<ResponseEntity<ApiResponse<BulkChangeResponse>>> bulkUpdateEmployees(
+            @Valid @RequestBody BulkUpdateRequest request) {
+        AuditInterceptor.describe("count=" + request.getIds().size());
+        
+        return CompletableFuture.supplyAsync(() -> {
+            BulkChangeResponse result = employeeService.bulkUpdateEmployees(request);
+            return ResponseEntity.ok(ApiResponse.success(result, "Employees updated successfully"));
+        }, bulkWriteExecutor);
+    }
+
+    @PostMapping("/bulk-delete")
+    @PreAuthorize("hasAnyRole('FULL_ACCESS', 'CLIENT_WRITE')")
+    public CompletableFuture<ResponseEntity<ApiResponse<BulkChangeResponse>>> bulkDeleteEmployees(
+            @Valid @RequestBody BulkDeleteRequest request) {
+        AuditInterceptor.describe("count=" + request.getIds().size());
+        
+        return CompletableFuture.supplyAsync(() -> {
+            BulkChangeResponse result = employeeService.bulkDeleteEmployees(request);
+            return ResponseEntity.ok(ApiResponse.success(result, "Employees deleted successfully"));
+        }, bulkWriteExecutor);
+    }
+
+    // Serializes only the selected properties of every EmployeeResponse in body
+    private static MappingJacksonValue withFields(Object body, Set<EmployeeField> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(EmployeeField.filters(fields));
+        return value;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ems.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a set-based bulk update or delete: distinct ids requested and rows the statements matched.
+ * Ids that matched no row are counted in {@code requested} only.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkChangeResponse {
+    private int requested;
+    private int affected;
+}
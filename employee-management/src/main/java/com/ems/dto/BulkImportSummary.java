@@ -0,0 +1,28 @@
+package com.ems.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class BulkImportSummary {
+
+    // Upper bound on reported row numbers so the summary itself stays small
+    private static final int MAX_REPORTED_FAILURES = 1000;
+
+    private int totalRows;
+    private int inserted;
+    private int skipped;
+    private int failed;
+    private List<Integer> failedRows = new ArrayList<>();
+
+    public void recordFailure(int rowNumber) {
+        failed++;
+        if (failedRows.size() < MAX_REPORTED_FAILURES) {
+            failedRows.add(rowNumber);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.ems.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * Moves a set of employees to a department and/or role. Fields left null are not changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateRequest {
+
+    @NotEmpty(message = "At least one employee id is required")
+    private List<@NotNull Long> ids;
+
+    private String department;
+
+    private String role;
+}
@@ -0,0 +1,18 @@
+package com.ems.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeFacetsResponse {
+    // Employees matching the filters
+    private long total;
+    // Largest first; values with no matching employees are left out
+    private List<FacetCount> departments;
+    private List<FacetCount> roles;
+}
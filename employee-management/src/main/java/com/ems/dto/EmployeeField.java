@@ -0,0 +1,81 @@
+package com.ems.dto;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of {@link EmployeeResponse} a client can select with {@code fields=}, with the column each is
+ * read from. A selection narrows both the SELECT list and the serialized JSON.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EmployeeField {
+    ID("id", "id"),
+    NAME("name", "name"),
+    EMAIL("email", "email"),
+    PHONE("phone", "phone"),
+    DEPARTMENT("department", "department"),
+    ROLE("role", "role"),
+    CREATED_AT("createdAt", "created_at"),
+    UPDATED_AT("updatedAt", "updated_at"),
+    VERSION("version", "version");
+
+    public static final Set<EmployeeField> ALL = Collections.unmodifiableSet(EnumSet.allOf(EmployeeField.class));
+
+    /**
+     * Filters for serializers that narrow nothing; the application's ObjectMapper is configured with them.
+     */
+    public static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+        .addFilter(EmployeeResponse.FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll());
+
+    private final String property;
+    private final String column;
+
+    /**
+     * Parses a comma-separated list of property names. Null or blank selects every field; {@code id} is
+     * always included.
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return ALL;
+        }
+        Set<EmployeeField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            selected.add(fromProperty(name.trim()));
+        }
+        return selected;
+    }
+
+    public static Set<String> columns(Set<EmployeeField> fields) {
+        return fields.stream().map(EmployeeField::getColumn).collect(Collectors.toSet());
+    }
+
+    /**
+     * Filters that serialize only {@code fields} of an {@link EmployeeResponse}.
+     */
+    public static FilterProvider filters(Set<EmployeeField> fields) {
+        if (fields.containsAll(ALL)) {
+            return ALL_FIELDS;
+        }
+        Set<String> properties = fields.stream().map(EmployeeField::getProperty).collect(Collectors.toSet());
+        return new SimpleFilterProvider()
+            .addFilter(EmployeeResponse.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(properties));
+    }
+
+    private static EmployeeField fromProperty(String property) {
+        for (EmployeeField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown employee field: " + property);
+    }
+}
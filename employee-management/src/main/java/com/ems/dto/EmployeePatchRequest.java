@@ -0,0 +1,35 @@
+package com.ems.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Pattern;
+
+/**
+ * Partial update: only non-null fields are written. A supplied field must not be blank where
+ * {@link EmployeeRequest} requires it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePatchRequest {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Name must not be blank")
+    private String name;
+
+    @Email(message = "Invalid email format")
+    @Pattern(regexp = "(?s).*\\S.*", message = "Email must not be blank")
+    private String email;
+
+    private String phone;
+
+    private String department;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Password must not be blank")
+    private String password;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Role must not be blank")
+    private String role;
+}
@@ -1,5 +1,6 @@
 package com.ems.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,7 +10,12 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(EmployeeResponse.FIELDS_FILTER)
 public class EmployeeResponse {
+
+    // Narrowed per response by fields=, see EmployeeField
+    public static final String FIELDS_FILTER = "employeeFields";
+
     private Long id;
     private String name;
     private String email;
@@ -18,4 +24,5 @@ public class EmployeeResponse {
     private String role;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer version;
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.ems.dto;
+
+import com.ems.model.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+    private String id;
+    private ImportJobStatus status;
+    private String fileName;
+    private String createdBy;
+    // Counted from line breaks when the file was staged; quoted multi-line fields make it an overestimate
+    private int estimatedRows;
+    private int processedRows;
+    private int inserted;
+    private int skipped;
+    private int failed;
+    private int attempts;
+    // Rate of the current (or last) run up to its latest checkpoint; null before the first checkpoint
+    private Double rowsPerSecond;
+    // Only while running
+    private Long etaSeconds;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,15 @@
+package com.ems.exception;
+
+import lombok.Getter;
+
+@Getter
+public class PreconditionFailedException extends RuntimeException {
+
+    // Version the resource currently has, sent back as its ETag so the client can re-read or retry
+    private final Integer currentVersion;
+
+    public PreconditionFailedException(String message, Integer currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+}
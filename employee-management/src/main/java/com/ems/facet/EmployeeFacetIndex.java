@@ -0,0 +1,292 @@
+package com.ems.facet;
+
+import com.ems.dto.EmployeeFacetsResponse;
+import com.ems.exception.ServiceUnavailableException;
+import com.ems.mapper.EmployeeMapper;
+import com.ems.model.Employee;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Keeps a {@link FacetSnapshot} of the employees table for the facets endpoint. The snapshot is loaded
+ * from a cursor at startup and then maintained from {@code EmployeeService} writes once their transaction
+ * commits. A periodic reload picks up changes made outside this application.
+ *
+ * <p>While a reload is reading the table, writes are applied to the current snapshot and also queued, then
+ * replayed onto the new snapshot before it replaces the old one, so no committed write is lost.
+ *
+ * <p>Concurrent transactions reach the snapshot in the order their after-commit callbacks run, which need
+ * not be their commit order. Single-employee writes carry the row version, so a stale one is ignored; bulk
+ * reassignments do not, and one that overtakes a single update may be undone until the next reload.
+ *
+ * <p>If the first load fails, it is retried with exponential backoff until a snapshot exists; until then
+ * the endpoint answers 503.
+ */
+@Component
+@Slf4j
+public class EmployeeFacetIndex {
+
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final EmployeeMapper employeeMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration rebuildInterval;
+    private final Timer queryTimer;
+    private final Timer rebuildTimer;
+    private final ScheduledExecutorService rebuilder;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private FacetSnapshot snapshot;
+    // Writes seen while a reload is running; guarded by lock, null otherwise
+    private List<Consumer<FacetSnapshot>> pending;
+    // Backoff before the next attempt while no snapshot has loaded; only used on the rebuild thread
+    private Duration retryDelay = INITIAL_RETRY_DELAY;
+    private boolean retryScheduled;
+
+    public EmployeeFacetIndex(EmployeeMapper employeeMapper,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${ems.facets.enabled:true}") boolean enabled,
+                              @Value("${ems.facets.rebuild-interval:1h}") Duration rebuildInterval) {
+        this.employeeMapper = employeeMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.rebuildInterval = rebuildInterval;
+        this.queryTimer = Timer.builder("ems.facets.query")
+            .description("Facet counts computed from the in-memory snapshot")
+            .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("ems.facets.rebuild")
+            .description("Full reload of the facet snapshot from the database")
+            .register(meterRegistry);
+        Gauge.builder("ems.facets.rows", this, EmployeeFacetIndex::liveRows)
+            .description("Employees held in the facet snapshot")
+            .register(meterRegistry);
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "facet-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        rebuilder.execute(this::rebuild);
+        if (!rebuildInterval.isZero()) {
+            rebuilder.scheduleWithFixedDelay(this::rebuild, rebuildInterval.toMillis(), rebuildInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public EmployeeFacetsResponse facets(String name, String email, String department, String role) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            if (snapshot == null) {
+                throw new ServiceUnavailableException(enabled
+                    ? "Employee facets are still loading, please retry shortly"
+                    : "Employee facets are disabled");
+            }
+            return snapshot.count(name, email, department, role);
+        } finally {
+            lock.readLock().unlock();
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void saved(Employee employee) {
+        if (!enabled) {
+            return;
+        }
+        if (employee.getId() == null) {
+            // e.g. the foreach batch insert, which does not return generated keys
+            afterCommit(this::rebuildSoon);
+            return;
+        }
+        afterCommit(() -> apply(s -> upsert(s, employee)));
+    }
+
+    public void saved(List<Employee> employees) {
+        if (!enabled || employees.isEmpty()) {
+            return;
+        }
+        for (Employee employee : employees) {
+            if (employee.getId() == null) {
+                afterCommit(this::rebuildSoon);
+                return;
+            }
+        }
+        afterCommit(() -> apply(s -> employees.forEach(employee -> upsert(s, employee))));
+    }
+
+    public void deleted(Long id) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> apply(s -> s.delete(id)));
+    }
+
+    public void deleted(Collection<Long> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> apply(s -> ids.forEach(s::delete)));
+    }
+
+    public void reassigned(Collection<Long> ids, String department, String role) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> apply(s -> ids.forEach(id -> s.reassign(id, department, role))));
+    }
+
+    private void rebuildSoon() {
+        rebuilder.execute(this::rebuild);
+    }
+
+    private void apply(Consumer<FacetSnapshot> change) {
+        lock.writeLock().lock();
+        try {
+            if (snapshot != null) {
+                change.accept(snapshot);
+            }
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void retry() {
+        retryScheduled = false;
+        rebuild();
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        FacetSnapshot fresh = null;
+        try {
+            fresh = load();
+        } catch (RuntimeException e) {
+            log.warn("Could not load the employee facet snapshot: {}", e.getMessage());
+        }
+
+        boolean loaded;
+        lock.writeLock().lock();
+        try {
+            if (fresh != null) {
+                for (Consumer<FacetSnapshot> change : pending) {
+                    change.accept(fresh);
+                }
+                snapshot = fresh;
+            }
+            pending = null;
+            loaded = snapshot != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (!loaded) {
+            if (!retryScheduled) {
+                log.info("Retrying the facet snapshot load in {} s", retryDelay.getSeconds());
+                rebuilder.schedule(this::retry, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+                retryScheduled = true;
+                Duration doubled = retryDelay.multipliedBy(2);
+                retryDelay = doubled.compareTo(MAX_RETRY_DELAY) < 0 ? doubled : MAX_RETRY_DELAY;
+            }
+            return;
+        }
+        retryDelay = INITIAL_RETRY_DELAY;
+
+        if (fresh != null) {
+            long elapsed = System.nanoTime() - start;
+            rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("Loaded {} employees into the facet snapshot in {} ms", fresh.liveCount(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private FacetSnapshot load() {
+        return transactionTemplate.execute(status -> {
+            FacetSnapshot loaded = new FacetSnapshot((int) Math.min(Integer.MAX_VALUE, employeeMapper.count()));
+            try (Cursor<Employee> cursor = employeeMapper.streamFacetColumns()) {
+                for (Employee employee : cursor) {
+                    upsert(loaded, employee);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return loaded;
+        });
+    }
+
+    private double liveRows() {
+        lock.readLock().lock();
+        try {
+            return snapshot != null ? snapshot.liveCount() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void upsert(FacetSnapshot target, Employee employee) {
+        int version = employee.getVersion() != null ? employee.getVersion() : 0;
+        target.upsert(employee.getId(), version, employee.getName(), employee.getEmail(),
+            employee.getDepartment(), employee.getRole());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+}
@@ -0,0 +1,310 @@
+package com.ems.facet;
+
+import com.ems.dto.EmployeeFacetsResponse;
+import com.ems.dto.FacetCount;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Column-oriented copy of the fields facets are computed over. Every employee occupies one row; department
+ * and role are dictionary-encoded into {@code int} columns, and each distinct value keeps a bitmap of the
+ * live rows holding it plus a running count. Unfiltered facets are read straight from the counts; filtered
+ * facets AND each value's bitmap with the filter's bitmap and count the bits, so cost grows with the number
+ * of distinct values rather than rows. Name and email are kept lower-cased, and their filters scan the column
+ * once to build that bitmap.
+ *
+ * <p>Deleted employees keep their row, marked not live. Each row also keeps the employee's {@code version},
+ * so an update that arrives after a newer one for the same employee, or after its deletion, is ignored. Not
+ * thread-safe; {@link EmployeeFacetIndex} guards it.
+ */
+public final class FacetSnapshot {
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final LongIntHashMap rowsById;
+    private final Column departmentColumn = new Column();
+    private final Column roleColumn = new Column();
+    private long[] ids;
+    private String[] names;
+    private String[] emails;
+    private int[] departments;
+    private int[] roles;
+    private int[] versions;
+    private long[] live;
+    private int size;
+    private int liveCount;
+
+    public FacetSnapshot(int expectedRows) {
+        int capacity = Math.max(MIN_CAPACITY, expectedRows);
+        this.rowsById = new LongIntHashMap(capacity);
+        this.ids = new long[capacity];
+        this.names = new String[capacity];
+        this.emails = new String[capacity];
+        this.departments = new int[capacity];
+        this.roles = new int[capacity];
+        this.versions = new int[capacity];
+        this.live = new long[words(capacity)];
+    }
+
+    /**
+     * Adds the employee, or replaces the values held for it unless they are from a newer version. Employees
+     * that were deleted stay deleted, as ids are never reused.
+     */
+    public void upsert(long id, int version, String name, String email, String department, String role) {
+        int row = rowsById.get(id);
+        if (row == LongIntHashMap.MISSING) {
+            ensureCapacity(size + 1);
+            row = size++;
+            rowsById.put(id, row);
+            ids[row] = id;
+        } else if (!isLive(row) || version < versions[row]) {
+            return;
+        } else {
+            departmentColumn.remove(row, departments[row]);
+            roleColumn.remove(row, roles[row]);
+            liveCount--;
+        }
+
+        names[row] = lowerCase(name);
+        emails[row] = lowerCase(email);
+        departments[row] = departmentColumn.add(row, department, live.length);
+        roles[row] = roleColumn.add(row, role, live.length);
+        versions[row] = version;
+        live[row >>> 6] |= 1L << row;
+        liveCount++;
+    }
+
+    /**
+     * Changes the department and/or role held for the employee; null leaves the value as it is. Bulk changes
+     * carry no per-row version, so this applies regardless of the version held.
+     */
+    public void reassign(long id, String department, String role) {
+        int row = rowsById.get(id);
+        if (row == LongIntHashMap.MISSING || !isLive(row)) {
+            return;
+        }
+        if (department != null) {
+            departmentColumn.remove(row, departments[row]);
+            departments[row] = departmentColumn.add(row, department, live.length);
+        }
+        if (role != null) {
+            roleColumn.remove(row, roles[row]);
+            roles[row] = roleColumn.add(row, role, live.length);
+        }
+    }
+
+    public void delete(long id) {
+        int row = rowsById.get(id);
+        if (row == LongIntHashMap.MISSING || !isLive(row)) {
+            return;
+        }
+        departmentColumn.remove(row, departments[row]);
+        roleColumn.remove(row, roles[row]);
+        names[row] = null;
+        emails[row] = null;
+        live[row >>> 6] &= ~(1L << row);
+        liveCount--;
+    }
+
+    public int liveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Counts employees by department and by role among those matching the filters. Filters are
+     * case-insensitive substring matches, as in the employee search; null or empty filters are ignored.
+     */
+    public EmployeeFacetsResponse count(String name, String email, String department, String role) {
+        long[] mask = null;
+        if (hasText(department)) {
+            mask = and(mask, departmentColumn.matching(department, live.length));
+        }
+        if (hasText(role)) {
+            mask = and(mask, roleColumn.matching(role, live.length));
+        }
+        if (hasText(name)) {
+            mask = scan(names, name, mask != null ? mask : live);
+        }
+        if (hasText(email)) {
+            mask = scan(emails, email, mask != null ? mask : live);
+        }
+
+        if (mask == null) {
+            return new EmployeeFacetsResponse(liveCount, departmentColumn.counts(), roleColumn.counts());
+        }
+        return new EmployeeFacetsResponse(popCount(mask), departmentColumn.counts(mask), roleColumn.counts(mask));
+    }
+
+    private boolean isLive(int row) {
+        return (live[row >>> 6] & (1L << row)) != 0;
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(rows, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        names = Arrays.copyOf(names, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        departments = Arrays.copyOf(departments, capacity);
+        roles = Arrays.copyOf(roles, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        live = Arrays.copyOf(live, words(capacity));
+        departmentColumn.resize(live.length);
+        roleColumn.resize(live.length);
+    }
+
+    private static long[] scan(String[] column, String term, long[] candidates) {
+        String lowerTerm = lowerCase(term);
+        long[] matches = new long[candidates.length];
+        for (int word = 0; word < candidates.length; word++) {
+            long bits = candidates[word];
+            while (bits != 0) {
+                int row = (word << 6) + Long.numberOfTrailingZeros(bits);
+                String value = column[row];
+                if (value != null && value.contains(lowerTerm)) {
+                    matches[word] |= 1L << row;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return matches;
+    }
+
+    private static long[] and(long[] mask, long[] bitmap) {
+        if (mask == null) {
+            return bitmap;
+        }
+        for (int i = 0; i < mask.length; i++) {
+            mask[i] &= bitmap[i];
+        }
+        return mask;
+    }
+
+    private static int popCount(long[] bitmap) {
+        int count = 0;
+        for (long word : bitmap) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int words(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private static String lowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    static boolean containsIgnoreCase(String value, String term) {
+        if (value == null) {
+            return false;
+        }
+        int last = value.length() - term.length();
+        for (int i = 0; i <= last; i++) {
+            if (value.regionMatches(true, i, term, 0, term.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One dictionary-encoded column: code per distinct value, with a live-row bitmap and count per code.
+     */
+    private static final class Column {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<long[]> bitmaps = new ArrayList<>();
+        private int[] counts = new int[16];
+
+        int add(int row, String value, int words) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+                bitmaps.add(new long[words]);
+                if (code == counts.length) {
+                    counts = Arrays.copyOf(counts, counts.length * 2);
+                }
+            }
+            bitmaps.get(code)[row >>> 6] |= 1L << row;
+            counts[code]++;
+            return code;
+        }
+
+        void remove(int row, int code) {
+            bitmaps.get(code)[row >>> 6] &= ~(1L << row);
+            counts[code]--;
+        }
+
+        void resize(int words) {
+            for (int code = 0; code < bitmaps.size(); code++) {
+                bitmaps.set(code, Arrays.copyOf(bitmaps.get(code), words));
+            }
+        }
+
+        /**
+         * Union of the bitmaps of every value containing {@code term}.
+         */
+        long[] matching(String term, int words) {
+            long[] union = new long[words];
+            for (int code = 0; code < values.size(); code++) {
+                if (containsIgnoreCase(values.get(code), term)) {
+                    long[] bitmap = bitmaps.get(code);
+                    for (int i = 0; i < words; i++) {
+                        union[i] |= bitmap[i];
+                    }
+                }
+            }
+            return union;
+        }
+
+        List<FacetCount> counts() {
+            List<FacetCount> result = new ArrayList<>();
+            for (int code = 0; code < values.size(); code++) {
+                if (counts[code] > 0) {
+                    result.add(new FacetCount(values.get(code), counts[code]));
+                }
+            }
+            return sorted(result);
+        }
+
+        List<FacetCount> counts(long[] mask) {
+            List<FacetCount> result = new ArrayList<>();
+            for (int code = 0; code < values.size(); code++) {
+                if (counts[code] == 0) {
+                    continue;
+                }
+                long[] bitmap = bitmaps.get(code);
+                int count = 0;
+                for (int i = 0; i < mask.length; i++) {
+                    count += Long.bitCount(bitmap[i] & mask[i]);
+                }
+                if (count > 0) {
+                    result.add(new FacetCount(values.get(code), count));
+                }
+            }
+            return sorted(result);
+        }
+
+        private static List<FacetCount> sorted(List<FacetCount> counts) {
+            counts.sort(Comparator.comparingLong(FacetCount::getCount).reversed()
+                .thenComparing(FacetCount::getValue, Comparator.nullsLast(Comparator.naturalOrder())));
+            return counts;
+        }
+    }
+}
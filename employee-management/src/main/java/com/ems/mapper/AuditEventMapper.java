@@ -0,0 +1,14 @@
+package com.ems.mapper;
+
+import com.ems.model.AuditEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface AuditEventMapper {
+
+    // Multi-row insert of one writer batch
+    int insertBatch(@Param("list") List<AuditEvent> events);
+}
@@ -2,33 +2,55 @@ package com.ems.mapper;
 
 import com.ems.model.Employee;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface EmployeeMapper {
     
-    // Find by ID
-    @Select("SELECT * FROM employees WHERE id = #{id}")
+    // Find by ID; reads never select the password column
     Employee findById(Long id);
     
     // Find by email
-    @Select("SELECT * FROM employees WHERE email = #{email}")
     Employee findByEmail(String email);
     
     // Check if email exists
     @Select("SELECT COUNT(*) FROM employees WHERE email = #{email}")
     int countByEmail(String email);
     
+    // Return which of the given emails already exist
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
     // Find all employees
-    @Select("SELECT * FROM employees ORDER BY created_at DESC")
     List<Employee> findAll();
     
+    // Stream every employee without the password column, for exports
+    Cursor<Employee> streamAllForExport();
+    
+    // Stream the columns the facet snapshot holds
+    Cursor<Employee> streamFacetColumns();
+    
     // Search employees with filters
     List<Employee> searchEmployees(@Param("name") String name,
                                    @Param("email") String email,
                                    @Param("department") String department,
-                                   @Param("role") String role);
+                                   @Param("role") String role,
+                                   @Param("fulltext") boolean fulltext);
+    
+    // Keyset page of employees with filters, ordered by (created_at, id) descending. Only the given
+    // columns are selected, plus id and created_at, which the cursor needs
+    List<Employee> searchEmployeesPage(@Param("columns") Collection<String> columns,
+                                       @Param("name") String name,
+                                       @Param("email") String email,
+                                       @Param("department") String department,
+                                       @Param("role") String role,
+                                       @Param("fulltext") boolean fulltext,
+                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                       @Param("cursorId") Long cursorId,
+                                       @Param("limit") int limit);
     
     // Insert employee
     @Insert("INSERT INTO employees (name, email, password, phone, department, role) " +
@@ -39,29 +61,35 @@ public interface EmployeeMapper {
     // Batch insert employees
     int batchInsert(@Param("list") List<Employee> employees);
     
-    // Update employee
-    @Update("UPDATE employees SET name = #{name}, email = #{email}, " +
-            "phone = #{phone}, department = #{department}, role = #{role}, " +
-            "updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
-    int update(Employee employee);
+    // Current row version, or null when the id does not exist
+    @Select("SELECT version FROM employees WHERE id = #{id}")
+    Integer findVersion(Long id);
+    
+    // Rewrite every column, and the password when one is set; returns 0 when the id does not exist or,
+    // with an expected version, when the row has moved on
+    int update(@Param("employee") Employee employee, @Param("expectedVersion") Integer expectedVersion);
+    
+    // Write only the non-null fields of employee, with the same return value as update
+    int patch(@Param("employee") Employee employee, @Param("expectedVersion") Integer expectedVersion);
+    
+    // Set department and/or role (null leaves the column unchanged) on every listed employee
+    int updateDepartmentAndRole(@Param("ids") Collection<Long> ids,
+                                @Param("department") String department,
+                                @Param("role") String role);
     
-    // Update employee password
-    @Update("UPDATE employees SET password = #{password}, updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
-    int updatePassword(@Param("id") Long id, @Param("password") String password);
+    // Delete employee, only at the expected version when one is given
+    int deleteById(@Param("id") Long id, @Param("expectedVersion") Integer expectedVersion);
     
-    // Delete employee
-    @Delete("DELETE FROM employees WHERE id = #{id}")
-    int deleteById(Long id);
+    // Delete every listed employee
+    int deleteByIds(@Param("ids") Collection<Long> ids);
     
     // Count employees
     @Select("SELECT COUNT(*) FROM employees")
     long count();
     
     // Find by department
-    @Select("SELECT * FROM employees WHERE department = #{department} ORDER BY created_at DESC")
     List<Employee> findByDepartment(String department);
     
     // Find by role
-    @Select("SELECT * FROM employees WHERE role = #{role} ORDER BY created_at DESC")
     List<Employee> findByRole(String role);
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.ems.mapper;
+
+import com.ems.model.ImportJob;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+@Mapper
+public interface ImportJobMapper {
+
+    // Register a new job
+    @Insert("INSERT INTO import_jobs (id, status, file_name, staged_path, created_by, estimated_rows) " +
+            "VALUES (#{id}, #{status}, #{fileName}, #{stagedPath}, #{createdBy}, #{estimatedRows})")
+    int insert(ImportJob job);
+
+    // Find by ID
+    @Select("SELECT * FROM import_jobs WHERE id = #{id}")
+    ImportJob findById(String id);
+
+    // Jobs waiting for a worker, oldest first
+    @Select("SELECT * FROM import_jobs WHERE status = 'QUEUED' ORDER BY created_at")
+    List<ImportJob> findQueued();
+
+    // Claim a queued job for a run; 0 rows means another worker has it or it is no longer queued
+    @Update("UPDATE import_jobs SET status = 'RUNNING', attempts = attempts + 1, run_start_rows = processed_rows, " +
+            "error_message = NULL, started_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = #{id} AND status = 'QUEUED'")
+    int markRunning(String id);
+
+    // Record the totals as of the last committed CSV row
+    @Update("UPDATE import_jobs SET checkpoint_row = #{checkpointRow}, processed_rows = #{processedRows}, " +
+            "inserted = #{inserted}, skipped = #{skipped}, failed = #{failed}, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = #{id}")
+    int checkpoint(@Param("id") String id,
+                   @Param("checkpointRow") int checkpointRow,
+                   @Param("processedRows") int processedRows,
+                   @Param("inserted") int inserted,
+                   @Param("skipped") int skipped,
+                   @Param("failed") int failed);
+
+    @Update("UPDATE import_jobs SET status = 'COMPLETED', processed_rows = #{processedRows}, " +
+            "inserted = #{inserted}, skipped = #{skipped}, failed = #{failed}, " +
+            "updated_at = CURRENT_TIMESTAMP, finished_at = CURRENT_TIMESTAMP WHERE id = #{id}")
+    int markCompleted(@Param("id") String id,
+                      @Param("processedRows") int processedRows,
+                      @Param("inserted") int inserted,
+                      @Param("skipped") int skipped,
+                      @Param("failed") int failed);
+
+    @Update("UPDATE import_jobs SET status = 'FAILED', error_message = #{errorMessage}, " +
+            "updated_at = CURRENT_TIMESTAMP, finished_at = CURRENT_TIMESTAMP WHERE id = #{id}")
+    int markFailed(@Param("id") String id, @Param("errorMessage") String errorMessage);
+
+    // Put a failed job back in the queue; 0 rows means it is not in the FAILED state
+    @Update("UPDATE import_jobs SET status = 'QUEUED', finished_at = NULL, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = #{id} AND status = 'FAILED'")
+    int requeueFailed(String id);
+
+    // Jobs left RUNNING by a previous process go back in the queue
+    @Update("UPDATE import_jobs SET status = 'QUEUED', updated_at = CURRENT_TIMESTAMP WHERE status = 'RUNNING'")
+    int requeueInterrupted();
+
+    @Delete("DELETE FROM import_jobs WHERE id = #{id}")
+    int deleteById(String id);
+}
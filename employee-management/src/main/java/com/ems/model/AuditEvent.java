@@ -0,0 +1,25 @@
+package com.ems.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEvent {
+    private Instant occurredAt;
+    private String actor;
+    private String clientId;
+    // Handler method, e.g. updateEmployee
+    private String action;
+    private String httpMethod;
+    private String path;
+    // Path variable naming the resource acted on, if any
+    private String target;
+    private String detail;
+    private int status;
+    private long durationMicros;
+}
@@ -19,4 +19,5 @@ public class Employee {
     private String role;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer version;
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.ems.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A CSV import running in the background. {@code checkpointRow} is the last CSV row whose chunk has been
+ * committed; the counters are the totals as of that row, so a resumed run continues from there.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob {
+    private String id;
+    private ImportJobStatus status;
+    private String fileName;
+    private String stagedPath;
+    private String createdBy;
+    private int estimatedRows;
+    private int checkpointRow;
+    private int processedRows;
+    private int inserted;
+    private int skipped;
+    private int failed;
+    private int attempts;
+    // processedRows when the current run started, for the rows-per-second rate
+    private int runStartRows;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,113 @@
+package com.ems.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWK set held in memory and refreshed from the Keycloak certs endpoint on a background thread.
+ * Token verification never waits on Keycloak unless the token carries a key id that is not cached yet,
+ * which triggers at most one on-demand refresh per {@code minRefreshInterval}. When Keycloak cannot be
+ * reached, the last good key set is still used for up to {@code maxStaleness}.
+ */
+@Slf4j
+public class CachingJwkSetSource implements JWKSource<SecurityContext>, AutoCloseable {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 2000;
+    private static final int READ_TIMEOUT_MILLIS = 2000;
+    private static final int SIZE_LIMIT_BYTES = 256 * 1024;
+
+    private final URL jwkSetUrl;
+    private final Duration minRefreshInterval;
+    private final Duration maxStaleness;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile JWKSet jwkSet;
+    private volatile Instant loadedAt = Instant.EPOCH;
+    // Only on-demand refreshes count against minRefreshInterval; a scheduled refresh must not delay a new key id
+    private volatile Instant lastOnDemandRefreshAt = Instant.EPOCH;
+
+    public CachingJwkSetSource(URL jwkSetUrl, Duration refreshInterval, Duration minRefreshInterval,
+                               Duration maxStaleness) {
+        this.jwkSetUrl = jwkSetUrl;
+        this.minRefreshInterval = minRefreshInterval;
+        this.maxStaleness = maxStaleness;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        JWKSet current = currentKeys();
+        List<JWK> matches = current != null ? jwkSelector.select(current) : List.of();
+
+        // Unknown key id: Keycloak may have rotated its keys since the last scheduled refresh
+        if (matches.isEmpty() && Instant.now().isAfter(lastOnDemandRefreshAt.plus(minRefreshInterval))) {
+            refreshForUnknownKey(jwkSelector);
+            current = currentKeys();
+            matches = current != null ? jwkSelector.select(current) : List.of();
+        }
+
+        if (current == null) {
+            throw new KeySourceException("No usable JWK set available from " + jwkSetUrl);
+        }
+        return matches;
+    }
+
+    private JWKSet currentKeys() {
+        JWKSet current = jwkSet;
+        if (current != null && Instant.now().isAfter(loadedAt.plus(maxStaleness))) {
+            log.warn("Cached JWK set is older than {}, refusing to use it", maxStaleness);
+            return null;
+        }
+        return current;
+    }
+
+    /**
+     * Refreshes unless another thread already did while this one waited for the lock, so a burst of tokens
+     * with a new key id costs one fetch.
+     */
+    private synchronized void refreshForUnknownKey(JWKSelector jwkSelector) {
+        if (!Instant.now().isAfter(lastOnDemandRefreshAt.plus(minRefreshInterval))) {
+            return;
+        }
+        JWKSet current = currentKeys();
+        if (current != null && !jwkSelector.select(current).isEmpty()) {
+            return;
+        }
+        lastOnDemandRefreshAt = Instant.now();
+        refreshQuietly();
+    }
+
+    private synchronized void refreshQuietly() {
+        try {
+            jwkSet = JWKSet.load(jwkSetUrl, CONNECT_TIMEOUT_MILLIS, READ_TIMEOUT_MILLIS, SIZE_LIMIT_BYTES);
+            loadedAt = Instant.now();
+            log.debug("Refreshed JWK set from {} ({} keys)", jwkSetUrl, jwkSet.getKeys().size());
+        } catch (Exception e) {
+            log.warn("Could not refresh JWK set from {}, keeping keys loaded at {}: {}",
+                jwkSetUrl, loadedAt, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
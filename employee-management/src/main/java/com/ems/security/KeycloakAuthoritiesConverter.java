@@ -0,0 +1,158 @@
+package com.ems.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps Keycloak realm roles and the API client's resource roles to {@code ROLE_*} authorities.
+ * The result is cached per token (by {@code jti}, or by the raw token when it has none) until the token
+ * expires, and authority objects are interned so every request for the same role shares one instance.
+ * The converter only sees tokens whose signature and claims have already been validated.
+ */
+public class KeycloakAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    // Upper bound for tokens without an exp claim
+    private static final long DEFAULT_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final String clientId;
+    private final Cache<String, Collection<GrantedAuthority>> cache;
+    private final Map<String, GrantedAuthority> internedAuthorities = new ConcurrentHashMap<>();
+    private final Timer cachedConversionTimer;
+    private final Timer parsedConversionTimer;
+
+    public KeycloakAuthoritiesConverter(String clientId, long maxCachedTokens, MeterRegistry meterRegistry) {
+        this.clientId = clientId;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxCachedTokens)
+            .expireAfter(new TokenExpiry())
+            .build();
+        this.cachedConversionTimer = conversionTimer(meterRegistry, "hit");
+        this.parsedConversionTimer = conversionTimer(meterRegistry, "miss");
+        Gauge.builder("ems.security.jwt.cached.tokens", this, KeycloakAuthoritiesConverter::getCachedTokenCount)
+            .description("Tokens whose authorities are currently cached")
+            .register(meterRegistry);
+    }
+
+    private static Timer conversionTimer(MeterRegistry meterRegistry, String cacheResult) {
+        return Timer.builder("ems.security.jwt.conversion")
+            .description("Time to map a validated JWT to granted authorities")
+            .tag("cache", cacheResult)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        long start = System.nanoTime();
+        String key = jwt.getId() != null ? jwt.getId() : jwt.getTokenValue();
+        Collection<GrantedAuthority> authorities = cache.getIfPresent(key);
+        if (authorities != null) {
+            cachedConversionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return authorities;
+        }
+        authorities = new CachedAuthorities(extractAuthorities(jwt), jwt.getExpiresAt());
+        cache.put(key, authorities);
+        parsedConversionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return authorities;
+    }
+
+    /**
+     * Parses the role claims without touching the cache.
+     */
+    public Collection<GrantedAuthority> extractAuthorities(Jwt jwt) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+
+        // Extract user realm roles
+        Map<String, Object> realmAccess = jwt.getClaim("realm_access");
+        if (realmAccess != null) {
+            addRoles(authorities, realmAccess.get("roles"));
+        }
+
+        // Extract client resource roles
+        Map<String, Object> resourceAccess = jwt.getClaim("resource_access");
+        if (resourceAccess != null && resourceAccess.get(clientId) instanceof Map) {
+            Map<?, ?> clientAccess = (Map<?, ?>) resourceAccess.get(clientId);
+            addRoles(authorities, clientAccess.get("roles"));
+        }
+
+        return Collections.unmodifiableList(authorities);
+    }
+
+    private void addRoles(List<GrantedAuthority> authorities, Object roles) {
+        if (roles instanceof Collection) {
+            for (Object role : (Collection<?>) roles) {
+                authorities.add(internedAuthorities.computeIfAbsent(String.valueOf(role),
+                    name -> new SimpleGrantedAuthority("ROLE_" + name)));
+            }
+        }
+    }
+
+    public long getCachedTokenCount() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Cached value that remembers when its token expires. It is still a plain authority collection for callers.
+     */
+    private static final class CachedAuthorities extends AbstractList<GrantedAuthority> {
+        private final List<GrantedAuthority> authorities;
+        private final Instant expiresAt;
+
+        private CachedAuthorities(Collection<GrantedAuthority> authorities, Instant expiresAt) {
+            this.authorities = List.copyOf(authorities);
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public GrantedAuthority get(int index) {
+            return authorities.get(index);
+        }
+
+        @Override
+        public int size() {
+            return authorities.size();
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<String, Collection<GrantedAuthority>> {
+
+        @Override
+        public long expireAfterCreate(String key, Collection<GrantedAuthority> value, long currentTime) {
+            Instant expiresAt = value instanceof CachedAuthorities ? ((CachedAuthorities) value).expiresAt : null;
+            if (expiresAt == null) {
+                return DEFAULT_TTL_NANOS;
+            }
+            return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Collection<GrantedAuthority> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Collection<GrantedAuthority> value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
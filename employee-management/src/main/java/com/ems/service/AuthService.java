@@ -5,13 +5,16 @@ import com.ems.dto.LoginResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -30,16 +33,25 @@ public class AuthService {
     @Value("${keycloak.credentials.secret}")
     private String clientSecret;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate keycloakRestTemplate;
+    private final ThreadPoolTaskExecutor loginExecutor;
 
-    public LoginResponse login(LoginRequest loginRequest) {
+    /**
+     * Runs {@link #login(LoginRequest)} on the login executor. The token-endpoint call still blocks, but it
+     * blocks a login thread rather than a servlet thread, so slow logins cannot starve the rest of the API.
+     */
+    public CompletableFuture<LoginResponse> loginAsync(LoginRequest loginRequest) {
         try {
-            String tokenEndpoint = String.format("%s/realms/%s/protocol/openid-connect/token", 
-                                                keycloakServerUrl, realm);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+            return CompletableFuture.supplyAsync(() -> login(loginRequest), loginExecutor);
+        } catch (TaskRejectedException e) {
+            log.warn("Login rejected for user {}: login executor is saturated", loginRequest.getEmail());
+            return CompletableFuture.completedFuture(
+                new LoginResponse(false, "Login failed: service busy, please retry", null));
+        }
+    }
 
+    public LoginResponse login(LoginRequest loginRequest) {
+        try {
             MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
             formData.add("grant_type", "password");
             formData.add("client_id", clientId);
@@ -47,15 +59,13 @@ public class AuthService {
             formData.add("username", loginRequest.getEmail());
             formData.add("password", loginRequest.getPassword());
 
-            HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(formData, headers);
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(tokenEndpoint, request, Map.class);
+            ResponseEntity<Map> response = requestToken(formData);
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 Map<String, Object> responseBody = response.getBody();
                 String accessToken = (String) responseBody.get("access_token");
 
-                log.info("Login successful for user: {}", loginRequest.getEmail());
+                log.debug("Login successful for user: {}", loginRequest.getEmail());
                 return new LoginResponse(true, "Login successful", "Bearer " + accessToken);
             } else {
                 log.warn("Login failed for user: {}", loginRequest.getEmail());
@@ -67,4 +77,15 @@ public class AuthService {
             return new LoginResponse(false, "Login failed: " + e.getMessage(), null);
         }
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<Map> requestToken(MultiValueMap<String, String> formData) {
+        String tokenEndpoint = String.format("%s/realms/%s/protocol/openid-connect/token",
+                                            keycloakServerUrl, realm);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(formData, headers);
+        return keycloakRestTemplate.postForEntity(tokenEndpoint, request, Map.class);
+    }
+}
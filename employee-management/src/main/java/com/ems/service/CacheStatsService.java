@@ -0,0 +1,36 @@
+package com.ems.service;
+
+import com.ems.config.CacheConfig;
+import com.ems.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final CacheManager cacheManager;
+
+    public CacheStatsResponse getEmployeeCacheStats() {
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache)) {
+            return new CacheStatsResponse(CacheConfig.EMPLOYEES_CACHE, false, 0, 0, 0, 0.0, 0);
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+            (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        return new CacheStatsResponse(
+            CacheConfig.EMPLOYEES_CACHE,
+            true,
+            nativeCache.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount()
+        );
+    }
+}
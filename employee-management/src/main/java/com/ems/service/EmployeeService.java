@@ -1,23 +1,60 @@
 package com.ems.service;
 
+import com.ems.config.CacheConfig;
+import com.ems.dto.BulkChangeResponse;
+import com.ems.dto.BulkDeleteRequest;
+import com.ems.dto.BulkImportSummary;
+import com.ems.dto.BulkUpdateRequest;
+import com.ems.dto.EmployeeFacetsResponse;
+import com.ems.dto.EmployeeField;
+import com.ems.dto.EmployeePatchRequest;
 import com.ems.dto.EmployeeRequest;
 import com.ems.dto.EmployeeResponse;
+import com.ems.dto.ExportFormat;
+import com.ems.dto.PageResponse;
+import com.ems.exception.PreconditionFailedException;
 import com.ems.exception.ResourceNotFoundException;
+import com.ems.facet.EmployeeFacetIndex;
+import com.ems.mapper.EmployeeBatchWriter;
 import com.ems.mapper.EmployeeMapper;
 import com.ems.model.Employee;
+import com.ems.util.PageCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.opencsv.CSVReader;
-import com.opencsv.exceptions.CsvException;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,8 +63,36 @@ import java.util.stream.Collectors;
 @Transactional
 public class EmployeeService {
 
+    private static final String[] EXPORT_CSV_HEADER =
+        {"id", "name", "email", "phone", "department", "role", "created_at", "updated_at"};
+
     private final EmployeeMapper employeeMapper;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final EmployeeBatchWriter employeeBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordHashingService passwordHashingService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final EmployeeFacetIndex facetIndex;
+
+    @Value("${ems.search.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${ems.search.max-page-size:100}")
+    private int maxPageSize;
+
+    // "fulltext" uses the ngram FULLTEXT indexes on the searchable columns, "like" scans with LIKE '%term%'
+    @Value("${ems.search.mode:like}")
+    private String searchMode;
+
+    @Value("${ems.import.chunk-size:500}")
+    private int importChunkSize;
+
+    @Value("${ems.bulk-change.max-ids:50000}")
+    private int bulkMaxIds;
+
+    // Bounds the IN list of each bulk UPDATE/DELETE
+    @Value("${ems.bulk-change.ids-per-statement:1000}")
+    private int bulkIdsPerStatement;
 
     public EmployeeResponse createEmployee(EmployeeRequest request) {
         if (employeeMapper.countByEmail(request.getEmail()) > 0) {
@@ -35,31 +100,38 @@ public class EmployeeService {
         }
 
         Employee employee = mapToEntity(request);
-        employee.setPassword(passwordEncoder.encode(request.getPassword()));
+        employee.setPassword(passwordHashingService.encode(request.getPassword()));
 
         employeeMapper.insert(employee);
-        log.info("Created employee with ID: {}", employee.getId());
+        facetIndex.saved(employee);
+        log.debug("Created employee with ID: {}", employee.getId());
         
         return convertToResponse(employee);
     }
 
     public List<EmployeeResponse> createMultipleEmployees(List<EmployeeRequest> requests) {
-        List<Employee> validEmployees = new ArrayList<>();
-        
+        List<Employee> candidates = new ArrayList<>(requests.size());
         for (EmployeeRequest request : requests) {
-            if (employeeMapper.countByEmail(request.getEmail()) == 0) {
-                Employee employee = mapToEntity(request);
-                employee.setPassword(passwordEncoder.encode(request.getPassword()));
-                validEmployees.add(employee);
-                log.info("Prepared employee for batch insert: {}", request.getEmail());
+            Employee employee = mapToEntity(request);
+            employee.setPassword(request.getPassword());
+            candidates.add(employee);
+        }
+
+        boolean[] duplicates = markDuplicateEmails(candidates);
+        List<Employee> validEmployees = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (duplicates[i]) {
+                log.warn("Skipped employee with existing email: {}", candidates.get(i).getEmail());
             } else {
-                log.warn("Skipped employee with existing email: {}", request.getEmail());
+                validEmployees.add(candidates.get(i));
             }
         }
         
         if (!validEmployees.isEmpty()) {
-            employeeMapper.batchInsert(validEmployees);
-            log.info("Batch inserted {} employees", validEmployees.size());
+            hashPasswords(validEmployees);
+            employeeBatchWriter.insertAll(validEmployees);
+            facetIndex.saved(validEmployees);
+            log.debug("Batch inserted {} employees", validEmployees.size());
         }
         
         return validEmployees.stream()
@@ -67,48 +139,174 @@ public class EmployeeService {
             .collect(Collectors.toList());
     }
 
-    public List<EmployeeResponse> bulkUploadFromCSV(MultipartFile file) throws IOException, CsvException {
-        List<Employee> validEmployees = new ArrayList<>();
-        
-        try (CSVReader reader = new CSVReader(new InputStreamReader(file.getInputStream()))) {
-            List<String[]> records = reader.readAll();
-            
-            if (records.size() > 1) { // Skip header row
-                for (int i = 1; i < records.size(); i++) {
-                    String[] record = records.get(i);
-                    
-                    if (record.length >= 6) {
-                        String email = record[1].trim();
-                        
-                        if (employeeMapper.countByEmail(email) == 0) {
-                            Employee employee = new Employee();
-                            employee.setName(record[0].trim());
-                            employee.setEmail(email);
-                            employee.setDepartment(record[2].trim());
-                            employee.setPhone(record[3].trim());
-                            employee.setPassword(passwordEncoder.encode(record[4].trim()));
-                            employee.setRole(record[5].trim());
-
-                            validEmployees.add(employee);
-                        } else {
-                            log.warn("Skipped employee from CSV with existing email: {}", email);
-                        }
-                    }
+    /**
+     * Streams the CSV one record at a time and commits every {@code importChunkSize} rows in its own
+     * transaction, so memory use is bounded by the chunk size rather than the file size. Rows up to
+     * {@code resumeAfterRow} are read but not imported; {@code summary} carries the totals up to that row
+     * and is updated in place. {@code checkpoint} runs inside each chunk's transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkImportSummary importCsv(Reader source, int resumeAfterRow, BulkImportSummary summary,
+                                       ImportCheckpoint checkpoint) throws IOException, CsvValidationException {
+        long start = System.nanoTime();
+        int rowsBefore = summary.getTotalRows();
+        int insertedBefore = summary.getInserted();
+        int skippedBefore = summary.getSkipped();
+        int failedBefore = summary.getFailed();
+        Counter rowsRead = meterRegistry.counter("ems.import.rows");
+        List<Employee> chunk = new ArrayList<>(importChunkSize);
+        List<Integer> chunkRows = new ArrayList<>(importChunkSize);
+        int rowNumber = 1;
+
+        try (CSVReader reader = new CSVReader(source)) {
+            reader.readNext(); // Skip header row
+
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                rowNumber++;
+                if (rowNumber <= resumeAfterRow) {
+                    continue;
+                }
+                rowsRead.increment();
+                summary.setTotalRows(summary.getTotalRows() + 1);
+
+                if (record.length < 6) {
+                    summary.recordFailure(rowNumber);
+                    continue;
+                }
+
+                chunk.add(mapCsvRecord(record));
+                chunkRows.add(rowNumber);
+                if (chunk.size() >= importChunkSize) {
+                    commitChunk(chunk, chunkRows, rowNumber, summary, checkpoint);
                 }
             }
         }
-        
-        if (!validEmployees.isEmpty()) {
-            employeeMapper.batchInsert(validEmployees);
-            log.info("Batch inserted {} employees from CSV", validEmployees.size());
+
+        if (!chunk.isEmpty()) {
+            commitChunk(chunk, chunkRows, rowNumber, summary, checkpoint);
         }
-        
-        return validEmployees.stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
+
+        recordImportMetrics(summary.getTotalRows() - rowsBefore, summary.getInserted() - insertedBefore,
+            summary.getSkipped() - skippedBefore, summary.getFailed() - failedBefore, System.nanoTime() - start);
+        log.info("CSV import finished: {} rows, {} inserted, {} skipped, {} failed",
+            summary.getTotalRows(), summary.getInserted(), summary.getSkipped(), summary.getFailed());
+        return summary;
+    }
+
+    private void recordImportMetrics(int rows, int inserted, int skipped, int failed, long elapsedNanos) {
+        meterRegistry.timer("ems.import.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("ems.import.rows.outcome", "outcome", "inserted").increment(inserted);
+        meterRegistry.counter("ems.import.rows.outcome", "outcome", "skipped").increment(skipped);
+        meterRegistry.counter("ems.import.rows.outcome", "outcome", "failed").increment(failed);
+        if (elapsedNanos > 0 && rows > 0) {
+            DistributionSummary.builder("ems.import.throughput")
+                .description("Rows per second of each completed CSV import run")
+                .baseUnit("rows.per.second")
+                .register(meterRegistry)
+                .record(rows * 1e9 / elapsedNanos);
+        }
+    }
+
+    private void commitChunk(List<Employee> chunk, List<Integer> chunkRows, int lastRow,
+                             BulkImportSummary summary, ImportCheckpoint checkpoint) {
+        boolean[] duplicates = markDuplicateEmails(chunk);
+        List<Employee> toInsert = new ArrayList<>(chunk.size());
+        List<Integer> insertRows = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (duplicates[i]) {
+                log.warn("Skipped employee from CSV with existing email: {}", chunk.get(i).getEmail());
+                summary.setSkipped(summary.getSkipped() + 1);
+            } else {
+                toInsert.add(chunk.get(i));
+                insertRows.add(chunkRows.get(i));
+            }
+        }
+
+        int insertedBefore = summary.getInserted();
+        try {
+            if (!toInsert.isEmpty()) {
+                hashPasswords(toInsert);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                employeeBatchWriter.insertAll(toInsert);
+                facetIndex.saved(toInsert);
+                summary.setInserted(insertedBefore + toInsert.size());
+                checkpoint.save(lastRow, summary);
+            });
+            log.debug("Committed CSV chunk of {} employees", toInsert.size());
+        } catch (DataAccessException e) {
+            summary.setInserted(insertedBefore);
+            log.error("Failed to commit CSV chunk ending at row {}: {}", lastRow, e.getMessage());
+            insertRows.forEach(summary::recordFailure);
+            // Not caught: if even the checkpoint cannot be written the import stops and resumes from the last one
+            transactionTemplate.executeWithoutResult(status -> checkpoint.save(lastRow, summary));
+        }
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    /**
+     * Flags every employee whose email repeats an earlier entry in the list or already exists in the
+     * database. Existing emails are looked up with one IN query per {@code importChunkSize} entries.
+     * Emails are compared case-insensitively to match the column collation.
+     */
+    private boolean[] markDuplicateEmails(List<Employee> employees) {
+        boolean[] duplicates = new boolean[employees.size()];
+        Set<String> seen = new HashSet<>();
+        List<String> unique = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            String email = employees.get(i).getEmail().toLowerCase(Locale.ROOT);
+            if (seen.add(email)) {
+                unique.add(email);
+            } else {
+                duplicates[i] = true;
+            }
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < unique.size(); from += importChunkSize) {
+            List<String> slice = unique.subList(from, Math.min(from + importChunkSize, unique.size()));
+            for (String email : employeeMapper.findExistingEmails(slice)) {
+                existing.add(email.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        if (!existing.isEmpty()) {
+            for (int i = 0; i < employees.size(); i++) {
+                if (existing.contains(employees.get(i).getEmail().toLowerCase(Locale.ROOT))) {
+                    duplicates[i] = true;
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Replaces the raw passwords held on the given employees with their hashes, using the shared hashing pool.
+     */
+    private void hashPasswords(List<Employee> employees) {
+        List<String> hashes = passwordHashingService.encodeAll(employees.stream()
+            .map(Employee::getPassword)
+            .collect(Collectors.toList()));
+        for (int i = 0; i < employees.size(); i++) {
+            employees.get(i).setPassword(hashes.get(i));
+        }
+    }
+
+    private Employee mapCsvRecord(String[] record) {
+        Employee employee = new Employee();
+        employee.setName(record[0].trim());
+        employee.setEmail(record[1].trim());
+        employee.setDepartment(record[2].trim());
+        employee.setPhone(record[3].trim());
+        employee.setPassword(record[4].trim());
+        employee.setRole(record[5].trim());
+        return employee;
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
     public EmployeeResponse getEmployeeById(Long id) {
         Employee employee = employeeMapper.findById(id);
         if (employee == null) {
@@ -118,64 +316,238 @@ public class EmployeeService {
         return convertToResponse(employee);
     }
 
+    /**
+     * Reads only the columns behind {@code fields}; the other response properties are left null.
+     */
     @Transactional(readOnly = true)
-    public List<EmployeeResponse> searchEmployees(String name, String email, String department, String role) {
-        List<Employee> employees;
-        
-        // If all search parameters are null or empty, return all employees
-        if ((name == null || name.trim().isEmpty()) && 
-            (email == null || email.trim().isEmpty()) && 
-            (department == null || department.trim().isEmpty()) && 
-            (role == null || role.trim().isEmpty())) {
-            employees = employeeMapper.findAll();
-        } else {
-            employees = employeeMapper.searchEmployees(name, email, department, role);
+    public PageResponse<EmployeeResponse> searchEmployees(String name, String email, String department, String role,
+                                                          String cursor, Integer size, Set<EmployeeField> fields) {
+        int pageSize = resolvePageSize(size);
+        PageCursor after = (cursor == null || cursor.trim().isEmpty()) ? null : PageCursor.decode(cursor);
+
+        // Fetch one extra row to learn whether another page follows without a COUNT query
+        List<Employee> employees = employeeMapper.searchEmployeesPage(EmployeeField.columns(fields),
+            name, email, department, role,
+            "fulltext".equalsIgnoreCase(searchMode),
+            after != null ? after.getCreatedAt() : null,
+            after != null ? after.getId() : null,
+            pageSize + 1);
+
+        boolean hasNext = employees.size() > pageSize;
+        if (hasNext) {
+            employees = employees.subList(0, pageSize);
         }
-        
-        return employees.stream()
+
+        String nextCursor = null;
+        if (hasNext) {
+            Employee last = employees.get(employees.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<EmployeeResponse> content = employees.stream()
             .map(this::convertToResponse)
             .collect(Collectors.toList());
+        return new PageResponse<>(content, content.size(), hasNext, nextCursor);
     }
 
-    public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
-        Employee existing = employeeMapper.findById(id);
-        if (existing == null) {
-            throw new ResourceNotFoundException("Employee not found with ID: " + id);
-        }
+    /**
+     * Department and role counts among employees matching the search filters, served from the in-memory
+     * facet snapshot rather than GROUP BY queries.
+     */
+    public EmployeeFacetsResponse getEmployeeFacets(String name, String email, String department, String role) {
+        return facetIndex.facets(name, email, department, role);
+    }
 
-        // Check if email is being changed and if new email already exists
-        if (!existing.getEmail().equals(request.getEmail()) && 
-            employeeMapper.countByEmail(request.getEmail()) > 0) {
-            throw new IllegalArgumentException("Employee with email " + request.getEmail() + " already exists");
+    /**
+     * Writes the whole employee directory to {@code out} from a database cursor, so heap use does not
+     * depend on the number of rows. Password hashes are never selected.
+     */
+    @Transactional(readOnly = true)
+    public void exportEmployees(ExportFormat format, OutputStream out) throws IOException {
+        int rows = 0;
+        try (Cursor<Employee> cursor = employeeMapper.streamAllForExport()) {
+            if (format == ExportFormat.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                CSVWriter csvWriter = new CSVWriter(writer);
+                csvWriter.writeNext(EXPORT_CSV_HEADER, false);
+                for (Employee employee : cursor) {
+                    csvWriter.writeNext(toCsvRow(employee), false);
+                    rows++;
+                }
+                csvWriter.flush();
+            } else {
+                ObjectWriter jsonWriter = objectMapper.writerFor(EmployeeResponse.class);
+                OutputStream buffered = new BufferedOutputStream(out);
+                for (Employee employee : cursor) {
+                    buffered.write(jsonWriter.writeValueAsBytes(convertToResponse(employee)));
+                    buffered.write('\n');
+                    rows++;
+                }
+                buffered.flush();
+            }
         }
+        log.info("Exported {} employees as {}", rows, format);
+    }
 
-        existing.setName(request.getName());
-        existing.setEmail(request.getEmail());
-        existing.setPhone(request.getPhone());
-        existing.setDepartment(request.getDepartment());
-        existing.setRole(request.getRole());
+    private static String[] toCsvRow(Employee employee) {
+        return new String[] {
+            String.valueOf(employee.getId()),
+            employee.getName(),
+            employee.getEmail(),
+            employee.getPhone(),
+            employee.getDepartment(),
+            employee.getRole(),
+            employee.getCreatedAt() != null ? employee.getCreatedAt().toString() : null,
+            employee.getUpdatedAt() != null ? employee.getUpdatedAt().toString() : null
+        };
+    }
+
+    /**
+     * A single UPDATE does the work: an unknown id matches no row, and an email already used by another
+     * employee fails the unique key, so neither needs a lookup first. With {@code expectedVersion} the
+     * UPDATE also matches only that version, so a concurrent edit is rejected instead of overwritten.
+     * The row is read back by primary key, in the same transaction, for the timestamps and version the
+     * database assigned.
+     */
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    public EmployeeResponse updateEmployee(Long id, EmployeeRequest request, Integer expectedVersion) {
+        Employee employee = mapToEntity(request);
+        employee.setId(id);
         
         // Only update password if provided
         if (request.getPassword() != null && !request.getPassword().trim().isEmpty()) {
-            employeeMapper.updatePassword(id, passwordEncoder.encode(request.getPassword()));
+            employee.setPassword(passwordHashingService.encode(request.getPassword()));
         }
 
-        employeeMapper.update(existing);
-        log.info("Updated employee with ID: {}", id);
+        int updated;
+        try {
+            updated = employeeMapper.update(employee, expectedVersion);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("Employee with email " + request.getEmail() + " already exists");
+        }
+        if (updated == 0) {
+            throw rejectedWrite(id, expectedVersion);
+        }
+        return updated(id);
+    }
+
+    /**
+     * Writes only the fields present in {@code request}; otherwise as {@link #updateEmployee}.
+     */
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    public EmployeeResponse patchEmployee(Long id, EmployeePatchRequest request, Integer expectedVersion) {
+        Employee changes = new Employee();
+        changes.setId(id);
+        changes.setName(request.getName());
+        changes.setEmail(request.getEmail());
+        changes.setPhone(request.getPhone());
+        changes.setDepartment(request.getDepartment());
+        changes.setRole(request.getRole());
+        if (request.getPassword() != null) {
+            changes.setPassword(passwordHashingService.encode(request.getPassword()));
+        }
+
+        int updated;
+        try {
+            updated = employeeMapper.patch(changes, expectedVersion);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("Employee with email " + request.getEmail() + " already exists");
+        }
+        if (updated == 0) {
+            throw rejectedWrite(id, expectedVersion);
+        }
+        return updated(id);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    public void deleteEmployee(Long id, Integer expectedVersion) {
+        if (employeeMapper.deleteById(id, expectedVersion) == 0) {
+            throw rejectedWrite(id, expectedVersion);
+        }
+        facetIndex.deleted(id);
+        log.debug("Deleted employee with ID: {}", id);
+    }
+
+    private EmployeeResponse updated(Long id) {
+        Employee employee = employeeMapper.findById(id);
+        facetIndex.saved(employee);
+        log.debug("Updated employee with ID: {} to version {}", id, employee.getVersion());
+        return convertToResponse(employee);
+    }
+
+    /**
+     * Explains a write that matched no row. Only when a version was expected can the row still exist,
+     * so only then is it looked up.
+     */
+    private RuntimeException rejectedWrite(Long id, Integer expectedVersion) {
+        Integer currentVersion = expectedVersion != null ? employeeMapper.findVersion(id) : null;
+        if (currentVersion == null) {
+            return new ResourceNotFoundException("Employee not found with ID: " + id);
+        }
+        return new PreconditionFailedException("Employee " + id + " was modified concurrently; current version is "
+            + currentVersion, currentVersion);
+    }
+
+    /**
+     * Moves the listed employees to a department and/or role with one UPDATE per
+     * {@code bulkIdsPerStatement} ids, all in one transaction. Ids that do not exist are ignored.
+     */
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, allEntries = true)
+    public BulkChangeResponse bulkUpdateEmployees(BulkUpdateRequest request) {
+        String department = request.getDepartment();
+        String role = request.getRole();
+        if (department == null && role == null) {
+            throw new IllegalArgumentException("Nothing to update: set department and/or role");
+        }
+        if (role != null && role.trim().isEmpty()) {
+            throw new IllegalArgumentException("Role must not be blank");
+        }
+
+        List<Long> ids = distinctIds(request.getIds());
+        int affected = 0;
+        for (int from = 0; from < ids.size(); from += bulkIdsPerStatement) {
+            List<Long> chunk = ids.subList(from, Math.min(from + bulkIdsPerStatement, ids.size()));
+            affected += employeeMapper.updateDepartmentAndRole(chunk, department, role);
+        }
+        facetIndex.reassigned(ids, department, role);
+        log.debug("Bulk updated {} of {} employees", affected, ids.size());
         
-        // Fetch updated employee to get the latest data including timestamps
-        Employee updatedEmployee = employeeMapper.findById(id);
-        return convertToResponse(updatedEmployee);
+        return new BulkChangeResponse(ids.size(), affected);
     }
 
-    public void deleteEmployee(Long id) {
-        Employee existing = employeeMapper.findById(id);
-        if (existing == null) {
-            throw new ResourceNotFoundException("Employee not found with ID: " + id);
+    /**
+     * Deletes the listed employees with one DELETE per {@code bulkIdsPerStatement} ids, all in one
+     * transaction. Ids that do not exist are ignored.
+     */
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, allEntries = true)
+    public BulkChangeResponse bulkDeleteEmployees(BulkDeleteRequest request) {
+        List<Long> ids = distinctIds(request.getIds());
+        int affected = 0;
+        for (int from = 0; from < ids.size(); from += bulkIdsPerStatement) {
+            affected += employeeMapper.deleteByIds(ids.subList(from, Math.min(from + bulkIdsPerStatement, ids.size())));
         }
+        facetIndex.deleted(ids);
+        log.debug("Bulk deleted {} of {} employees", affected, ids.size());
+        
+        return new BulkChangeResponse(ids.size(), affected);
+    }
 
-        employeeMapper.deleteById(id);
-        log.info("Deleted employee with ID: {}", id);
+    private List<Long> distinctIds(List<Long> ids) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.size() > bulkMaxIds) {
+            throw new IllegalArgumentException("At most " + bulkMaxIds + " employee ids are accepted per request");
+        }
+        return distinct;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
     }
 
     private Employee mapToEntity(EmployeeRequest request) {
@@ -185,6 +557,8 @@ public class EmployeeService {
         employee.setPhone(request.getPhone());
         employee.setDepartment(request.getDepartment());
         employee.setRole(request.getRole());
+        // The column default for new rows; updates take the version from the database instead
+        employee.setVersion(0);
         return employee;
     }
 
@@ -197,7 +571,8 @@ public class EmployeeService {
             employee.getDepartment(),
             employee.getRole(),
             employee.getCreatedAt(),
-            employee.getUpdatedAt()
+            employee.getUpdatedAt(),
+            employee.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.ems.service;
+
+import com.ems.dto.BulkImportSummary;
+
+/**
+ * Receives the progress of a CSV import after each chunk. It is called inside the transaction that
+ * commits the chunk, so anything it writes to the database commits or rolls back with the rows.
+ */
+@FunctionalInterface
+public interface ImportCheckpoint {
+
+    ImportCheckpoint NONE = (row, summary) -> { };
+
+    /**
+     * @param row     the last CSV row (1 = header) covered by the chunk
+     * @param summary totals up to and including that row
+     */
+    void save(int row, BulkImportSummary summary);
+}
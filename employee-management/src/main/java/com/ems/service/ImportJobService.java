@@ -0,0 +1,242 @@
+package com.ems.service;
+
+import com.ems.dto.BulkImportSummary;
+import com.ems.dto.ImportJobResponse;
+import com.ems.exception.ResourceNotFoundException;
+import com.ems.mapper.ImportJobMapper;
+import com.ems.model.ImportJob;
+import com.ems.model.ImportJobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Runs CSV imports as background jobs. The upload is staged to disk and a row in {@code import_jobs}
+ * tracks the job; every committed chunk advances the job's checkpoint in the same transaction, so a
+ * failed or interrupted job resumes after the last committed row instead of starting over.
+ *
+ * <p>Jobs left RUNNING or QUEUED by a previous process are picked up again at startup. This assumes a
+ * single instance owns the staging directory; disable {@code ems.import.jobs.resume-on-startup} otherwise.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ImportJobMapper importJobMapper;
+    private final EmployeeService employeeService;
+    private final ThreadPoolTaskExecutor importJobExecutor;
+
+    @Value("${ems.import.jobs.staging-dir:${java.io.tmpdir}/ems-imports}")
+    private String stagingDir;
+
+    @Value("${ems.import.jobs.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    /**
+     * Stages the upload and queues it. Returns as soon as the file is on disk.
+     */
+    public ImportJobResponse submit(MultipartFile file, String createdBy) throws IOException {
+        ImportJob job = new ImportJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setStatus(ImportJobStatus.QUEUED);
+        job.setFileName(file.getOriginalFilename());
+        job.setCreatedBy(createdBy);
+
+        Path staged = Paths.get(stagingDir).resolve(job.getId() + ".csv");
+        Files.createDirectories(staged.getParent());
+        job.setStagedPath(staged.toString());
+        job.setEstimatedRows(stage(file, staged));
+
+        importJobMapper.insert(job);
+        try {
+            importJobExecutor.execute(() -> run(job.getId()));
+        } catch (TaskRejectedException e) {
+            importJobMapper.deleteById(job.getId());
+            deleteStagedFile(staged);
+            throw e;
+        }
+        log.info("Queued import job {} for {} ({} rows estimated)", job.getId(), job.getFileName(), job.getEstimatedRows());
+        return getStatus(job.getId());
+    }
+
+    public ImportJobResponse getStatus(String id) {
+        return toResponse(findJob(id));
+    }
+
+    /**
+     * Queues a failed job again; it continues after its last checkpoint.
+     */
+    public ImportJobResponse resume(String id) {
+        ImportJob job = findJob(id);
+        if (job.getStatus() != ImportJobStatus.FAILED) {
+            throw new IllegalArgumentException("Only failed import jobs can be resumed; job " + id + " is " + job.getStatus());
+        }
+        if (!Files.exists(Paths.get(job.getStagedPath()))) {
+            throw new IllegalArgumentException("Staged file for import job " + id + " no longer exists");
+        }
+        if (importJobMapper.requeueFailed(id) == 0) {
+            throw new IllegalArgumentException("Import job " + id + " was resumed concurrently");
+        }
+
+        try {
+            importJobExecutor.execute(() -> run(id));
+        } catch (TaskRejectedException e) {
+            importJobMapper.markFailed(id, "Import queue full; resume the job to retry");
+            throw e;
+        }
+        log.info("Resuming import job {} after row {}", id, job.getCheckpointRow());
+        return getStatus(id);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        int interrupted = importJobMapper.requeueInterrupted();
+        for (ImportJob job : importJobMapper.findQueued()) {
+            try {
+                importJobExecutor.execute(() -> run(job.getId()));
+            } catch (TaskRejectedException e) {
+                importJobMapper.markFailed(job.getId(), "Import queue full at startup; resume the job to retry");
+            }
+        }
+        if (interrupted > 0) {
+            log.info("Re-queued {} import jobs interrupted by the previous shutdown", interrupted);
+        }
+    }
+
+    void run(String id) {
+        if (importJobMapper.markRunning(id) == 0) {
+            log.debug("Import job {} is no longer queued, skipping", id);
+            return;
+        }
+        ImportJob job = importJobMapper.findById(id);
+        BulkImportSummary summary = new BulkImportSummary();
+        summary.setTotalRows(job.getProcessedRows());
+        summary.setInserted(job.getInserted());
+        summary.setSkipped(job.getSkipped());
+        summary.setFailed(job.getFailed());
+
+        Path staged = Paths.get(job.getStagedPath());
+        try (Reader reader = Files.newBufferedReader(staged, StandardCharsets.UTF_8)) {
+            employeeService.importCsv(reader, job.getCheckpointRow(), summary,
+                (row, progress) -> importJobMapper.checkpoint(id, row, progress.getTotalRows(),
+                    progress.getInserted(), progress.getSkipped(), progress.getFailed()));
+            importJobMapper.markCompleted(id, summary.getTotalRows(), summary.getInserted(),
+                summary.getSkipped(), summary.getFailed());
+            deleteStagedFile(staged);
+            log.info("Import job {} completed", id);
+        } catch (Exception e) {
+            log.error("Import job {} failed: {}", id, e.getMessage(), e);
+            importJobMapper.markFailed(id, truncate(e.getMessage()));
+        }
+    }
+
+    private ImportJob findJob(String id) {
+        ImportJob job = importJobMapper.findById(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found with ID: " + id);
+        }
+        return job;
+    }
+
+    /**
+     * Copies the upload to {@code target} and returns the number of data rows, estimated from line breaks.
+     */
+    private static int stage(MultipartFile file, Path target) throws IOException {
+        long lines = 0;
+        int last = '\n';
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = file.getInputStream(); OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+                out.write(buffer, 0, read);
+                last = buffer[read - 1];
+            }
+        }
+        if (last != '\n') {
+            lines++;
+        }
+        // Less the header row
+        return (int) Math.max(0, lines - 1);
+    }
+
+    private static void deleteStagedFile(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException e) {
+            log.warn("Could not delete staged import file {}: {}", staged, e.getMessage());
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static ImportJobResponse toResponse(ImportJob job) {
+        Double rowsPerSecond = null;
+        Long etaSeconds = null;
+        LocalDateTime until = job.getStatus() == ImportJobStatus.RUNNING ? job.getUpdatedAt() : job.getFinishedAt();
+        int runRows = job.getProcessedRows() - job.getRunStartRows();
+        if (job.getStartedAt() != null && until != null && runRows > 0) {
+            long elapsedMillis = Duration.between(job.getStartedAt(), until).toMillis();
+            if (elapsedMillis > 0) {
+                rowsPerSecond = runRows * 1000.0 / elapsedMillis;
+                if (job.getStatus() == ImportJobStatus.RUNNING) {
+                    int remaining = Math.max(0, job.getEstimatedRows() - job.getProcessedRows());
+                    etaSeconds = (long) Math.ceil(remaining / rowsPerSecond);
+                }
+            }
+        }
+
+        return new ImportJobResponse(
+            job.getId(),
+            job.getStatus(),
+            job.getFileName(),
+            job.getCreatedBy(),
+            job.getEstimatedRows(),
+            job.getProcessedRows(),
+            job.getInserted(),
+            job.getSkipped(),
+            job.getFailed(),
+            job.getAttempts(),
+            rowsPerSecond,
+            etaSeconds,
+            job.getErrorMessage(),
+            job.getCreatedAt(),
+            job.getStartedAt(),
+            job.getUpdatedAt(),
+            job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.ems.util;
+
+/**
+ * Strong entity tags over the employee row version, e.g. {@code "3"}. Every write bumps the version, so a
+ * client that sends the tag it last saw in {@code If-Match} only overwrites the row it read.
+ */
+public final class EntityTags {
+
+    // Never equal to a row version, so the write is rejected with 412 rather than applied
+    private static final int NO_MATCH = -1;
+
+    private EntityTags() {
+    }
+
+    public static String of(Integer version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * The version an {@code If-Match} header requires, or null when the header is absent or {@code *}.
+     * Anything other than a single strong tag issued by {@link #of} (weak tags, lists, foreign values) can
+     * never match.
+     */
+    public static Integer expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return NO_MATCH;
+        }
+        try {
+            return Integer.parseInt(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return NO_MATCH;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ems.keycloak.cache;
+
+import com.ems.keycloak.entity.EmployeeEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of employees by email, shared by all sessions of one provider component.
+ * Entries are kept in LRU order and the least recently used entry is dropped once the cache is full.
+ * Only found employees are cached, so a newly created employee is visible on the next lookup.
+ */
+public class EmployeeLookupCache {
+    
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    public EmployeeLookupCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > EmployeeLookupCache.this.maxSize;
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+    
+    /**
+     * Returns the cached employee for the email, or loads it and caches a non-null result.
+     */
+    public EmployeeEntity get(String email, Function<String, EmployeeEntity> loader) {
+        String key = key(email);
+        long now = System.currentTimeMillis();
+        
+        if (maxSize > 0 && ttlMillis > 0) {
+            synchronized (entries) {
+                Entry entry = entries.get(key);
+                if (entry != null) {
+                    if (entry.expiresAt > now) {
+                        hits.incrementAndGet();
+                        return entry.employee;
+                    }
+                    entries.remove(key);
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+        
+        misses.incrementAndGet();
+        EmployeeEntity employee = loader.apply(email);
+        if (employee != null && maxSize > 0 && ttlMillis > 0) {
+            synchronized (entries) {
+                entries.put(key, new Entry(employee, now + ttlMillis));
+            }
+        }
+        return employee;
+    }
+    
+    public void invalidate(String email) {
+        synchronized (entries) {
+            entries.remove(key(email));
+        }
+    }
+    
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+    
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+    
+    public long getHits() {
+        return hits.get();
+    }
+    
+    public long getMisses() {
+        return misses.get();
+    }
+    
+    public long getEvictions() {
+        return evictions.get();
+    }
+    
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+    
+    private static final class Entry {
+        private final EmployeeEntity employee;
+        private final long expiresAt;
+        
+        private Entry(EmployeeEntity employee, long expiresAt) {
+            this.employee = employee;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.ems.keycloak.credential;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs password hash checks on a dedicated, fixed-size pool with a bounded queue so that a login storm
+ * cannot occupy every Keycloak worker thread. When the queue is full, or a check waits longer than the
+ * configured timeout, the check is shed immediately instead of piling up behind the pool. A shed check
+ * is reported as {@link Result#SHED}, never as a wrong password.
+ */
+public class CredentialVerificationExecutor {
+    
+    public enum Result {
+        VALID,
+        INVALID,
+        /** The check did not run or did not finish in time; says nothing about the password. */
+        SHED
+    }
+    
+    private static final Logger logger = LoggerFactory.getLogger(CredentialVerificationExecutor.class);
+    
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    
+    private final Timer queueWait;
+    private final Timer hash;
+    private final Counter rejected;
+    private final Counter timedOut;
+    
+    public CredentialVerificationExecutor(int threads, int queueDepth, long timeoutMillis, MeterRegistry registry) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueDepth),
+            runnable -> {
+                Thread thread = new Thread(runnable, "employee-credential-verify-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.queueWait = Timer.builder("employee.verification.queue.wait")
+            .description("Time a password check waited for a verification thread")
+            .register(registry);
+        this.hash = Timer.builder("employee.verification.hash")
+            .description("Time a password check ran on a verification thread")
+            .register(registry);
+        this.rejected = shedCounter(registry, "rejected");
+        this.timedOut = shedCounter(registry, "timed_out");
+        Gauge.builder("employee.verification.queue.depth", executor, e -> e.getQueue().size())
+            .description("Password checks waiting for a verification thread")
+            .register(registry);
+        Gauge.builder("employee.verification.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Verification threads running a password check")
+            .register(registry);
+        logger.info("Credential verification pool started with {} threads, queue depth {} and timeout {} ms",
+            threads, queueDepth, timeoutMillis);
+    }
+    
+    private static Counter shedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("employee.verification.shed")
+            .description("Password checks shed without a result")
+            .tag("reason", reason)
+            .register(registry);
+    }
+    
+    /**
+     * Runs the check on the verification pool and returns its result, or {@link Result#SHED} if the pool
+     * is saturated or the check does not finish within the timeout.
+     */
+    public Result verify(BooleanSupplier check) {
+        long enqueuedAt = System.nanoTime();
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return check.getAsBoolean();
+                } finally {
+                    hash.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("Credential verification rejected, queue is full ({} pending)", executor.getQueue().size());
+            return Result.SHED;
+        }
+        
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS) ? Result.VALID : Result.INVALID;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            logger.warn("Credential verification timed out after {} ms", timeoutMillis);
+            return Result.SHED;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return Result.SHED;
+        } catch (ExecutionException e) {
+            logger.error("Credential verification failed", e.getCause());
+            return Result.INVALID;
+        }
+    }
+    
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ems.keycloak.dao;
 
 import com.ems.keycloak.entity.EmployeeEntity;
+import com.ems.keycloak.metrics.ProviderMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,42 +11,54 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
-import com.mysql.cj.jdbc.MysqlDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class EmployeeDao {
     private static final Logger logger = LoggerFactory.getLogger(EmployeeDao.class);
     
-    private final DataSource dataSource;
+    // Rows fetched per round trip while a search stream is consumed (needs useCursorFetch on the connection)
+    private static final int SEARCH_FETCH_SIZE = 100;
     
-    public EmployeeDao() {
-        this.dataSource = createDataSource();
-    }
+    // User listings and id lookups; the BCrypt hash is only read where credentials are checked
+    private static final String PROFILE_COLUMNS = "id, name, email, phone, department, role, created_at, updated_at";
+    private static final String CREDENTIAL_COLUMNS = PROFILE_COLUMNS + ", password";
+    
+    private final DataSource dataSource;
+    private final ProviderMetrics metrics;
     
-    private DataSource createDataSource() {
-        MysqlDataSource mysqlDataSource = new MysqlDataSource();
-        mysqlDataSource.setURL("jdbc:mysql://localhost:3306/emsdb?useSSL=false&serverTimezone=UTC");
-        mysqlDataSource.setUser("root");
-        mysqlDataSource.setPassword("root");
-        return mysqlDataSource;
+    public EmployeeDao(DataSource dataSource, ProviderMetrics metrics) {
+        this.dataSource = dataSource;
+        this.metrics = metrics;
     }
     
     public EmployeeEntity findByEmail(String email) {
-        String sql = "SELECT * FROM employees WHERE email = ?";
+        // Cached and used for password validation, so this lookup carries the hash
+        String sql = "SELECT " + CREDENTIAL_COLUMNS + " FROM employees WHERE email = ?";
         
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, email);
             
+            long start = System.nanoTime();
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    EmployeeEntity employee = mapResultSetToEntity(rs);
+                    EmployeeEntity employee = mapResultSetToEntity(rs, true);
                     logger.debug("Found employee with email: {}", email);
                     return employee;
                 } else {
                     logger.debug("No employee found with email: {}", email);
                     return null;
                 }
+            } finally {
+                ProviderMetrics.stop(metrics.findByEmail(), start);
             }
             
         } catch (SQLException e) {
@@ -61,31 +74,46 @@ public class EmployeeDao {
             return false;
         }
         
+        return validatePassword(employee, plainPassword);
+    }
+    
+    public boolean validatePassword(EmployeeEntity employee, String plainPassword) {
+        String email = employee.getEmail();
+        
         // For BCrypt passwords (starting with $2a$, $2b$, etc.)
+        long start = System.nanoTime();
         if (employee.getPassword().startsWith("$2")) {
-            return org.springframework.security.crypto.bcrypt.BCrypt.checkpw(plainPassword, employee.getPassword());
+            try {
+                return org.springframework.security.crypto.bcrypt.BCrypt.checkpw(plainPassword, employee.getPassword());
+            } finally {
+                ProviderMetrics.stop(metrics.bcryptVerify(), start);
+            }
         }
         
         // For plain text passwords (fallback)
         boolean isValid = employee.getPassword().equals(plainPassword);
+        ProviderMetrics.stop(metrics.plainVerify(), start);
         logger.debug("Password validation for {}: {}", email, isValid ? "SUCCESS" : "FAILED");
         return isValid;
     }
     
     public EmployeeEntity findById(Long id) {
-        String sql = "SELECT * FROM employees WHERE id = ?";
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM employees WHERE id = ?";
         
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, id);
             
+            long start = System.nanoTime();
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToEntity(rs);
+                    return mapResultSetToEntity(rs, false);
                 } else {
                     return null;
                 }
+            } finally {
+                ProviderMetrics.stop(metrics.findById(), start);
             }
             
         } catch (SQLException e) {
@@ -102,10 +130,13 @@ public class EmployeeDao {
             
             stmt.setString(1, email);
             
+            long start = System.nanoTime();
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     return rs.getInt(1);
                 }
+            } finally {
+                ProviderMetrics.stop(metrics.countByEmail(), start);
             }
             
         } catch (SQLException e) {
@@ -115,37 +146,183 @@ public class EmployeeDao {
         return 0;
     }
     
-    public void updateEmployee(EmployeeEntity employee) {
-        String sql = "UPDATE employees SET name = ?, email = ?, phone = ?, department = ?, role = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+    public int countAll() {
+        return count(EmployeeSearchCriteria.all());
+    }
+    
+    public int count(EmployeeSearchCriteria criteria) {
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM employees");
+        List<Object> params = new ArrayList<>();
+        appendWhere(sql, params, criteria);
         
         try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             
-            stmt.setString(1, employee.getName());
-            stmt.setString(2, employee.getEmail());
-            stmt.setString(3, employee.getPhone());
-            stmt.setString(4, employee.getDepartment());
-            stmt.setString(5, employee.getRole());
-            stmt.setLong(6, employee.getId());
+            bind(stmt, params);
             
-            int rowsAffected = stmt.executeUpdate();
-            if (rowsAffected > 0) {
-                logger.debug("Updated employee: {}", employee.getEmail());
-            } else {
-                logger.warn("No rows updated for employee: {}", employee.getEmail());
+            long start = System.nanoTime();
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            } finally {
+                ProviderMetrics.stop(metrics.count(), start);
             }
             
         } catch (SQLException e) {
-            logger.error("Error updating employee: {}", employee.getEmail(), e);
+            logger.error("Error counting employees", e);
+        }
+        
+        return 0;
+    }
+    
+    /**
+     * Returns one page of matching employees ordered by id. Rows are read from the open result set as the
+     * stream is consumed, and the connection is released when the stream is exhausted or closed.
+     * Callers must close the stream if they may stop before the end.
+     */
+    public Stream<EmployeeEntity> search(EmployeeSearchCriteria criteria, Integer firstResult, Integer maxResults) {
+        StringBuilder sql = new StringBuilder("SELECT " + PROFILE_COLUMNS + " FROM employees");
+        List<Object> params = new ArrayList<>();
+        appendWhere(sql, params, criteria);
+        sql.append(" ORDER BY id");
+        
+        int offset = firstResult != null && firstResult > 0 ? firstResult : 0;
+        if (maxResults != null && maxResults >= 0) {
+            sql.append(" LIMIT ? OFFSET ?");
+            params.add(maxResults);
+            params.add(offset);
+        } else if (offset > 0) {
+            sql.append(" LIMIT ? OFFSET ?");
+            params.add(Long.MAX_VALUE);
+            params.add(offset);
         }
+        
+        return stream(sql.toString(), params);
     }
     
-    private EmployeeEntity mapResultSetToEntity(ResultSet rs) throws SQLException {
+    private Stream<EmployeeEntity> stream(String sql, List<Object> params) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            conn = dataSource.getConnection();
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(SEARCH_FETCH_SIZE);
+            bind(stmt, params);
+            // Covers the first fetch only; later batches are read as the caller consumes the stream
+            long start = System.nanoTime();
+            rs = stmt.executeQuery();
+            ProviderMetrics.stop(metrics.search(), start);
+        } catch (SQLException e) {
+            logger.error("Error searching employees", e);
+            closeQuietly(rs, stmt, conn);
+            return Stream.empty();
+        }
+        
+        ResultSet resultSet = rs;
+        PreparedStatement statement = stmt;
+        Connection connection = conn;
+        AtomicBoolean closed = new AtomicBoolean();
+        Runnable release = () -> {
+            if (closed.compareAndSet(false, true)) {
+                closeQuietly(resultSet, statement, connection);
+            }
+        };
+        
+        Spliterator<EmployeeEntity> rows = new Spliterators.AbstractSpliterator<EmployeeEntity>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super EmployeeEntity> action) {
+                if (closed.get()) {
+                    return false;
+                }
+                try {
+                    if (!resultSet.next()) {
+                        release.run();
+                        return false;
+                    }
+                    action.accept(mapResultSetToEntity(resultSet, false));
+                    return true;
+                } catch (SQLException e) {
+                    logger.error("Error reading employee search results", e);
+                    release.run();
+                    return false;
+                }
+            }
+        };
+        
+        return StreamSupport.stream(rows, false).onClose(release);
+    }
+    
+    private void appendWhere(StringBuilder sql, List<Object> params, EmployeeSearchCriteria criteria) {
+        List<String> conditions = new ArrayList<>();
+        boolean exact = criteria.isExact();
+        
+        String search = criteria.getSearch();
+        if (search != null && !search.trim().isEmpty() && !"*".equals(search.trim())) {
+            String pattern = toLikePattern(search.trim(), exact);
+            conditions.add("(email LIKE ? OR name LIKE ?)");
+            params.add(pattern);
+            params.add(pattern);
+        }
+        if (criteria.getEmail() != null) {
+            conditions.add("email LIKE ?");
+            params.add(toLikePattern(criteria.getEmail(), exact));
+        }
+        if (criteria.getFirstName() != null) {
+            conditions.add("name LIKE ?");
+            params.add(toLikePattern(criteria.getFirstName(), false));
+        }
+        if (criteria.getLastName() != null) {
+            conditions.add("name LIKE ?");
+            params.add("% " + toLikePattern(criteria.getLastName(), exact));
+        }
+        if (criteria.getDepartment() != null) {
+            conditions.add("department = ?");
+            params.add(criteria.getDepartment());
+        }
+        if (criteria.getRole() != null) {
+            conditions.add("role = ?");
+            params.add(criteria.getRole());
+        }
+        
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+    }
+    
+    private static String toLikePattern(String term, boolean exact) {
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_").replace('*', '%');
+        return exact ? escaped : escaped + "%";
+    }
+    
+    private static void bind(PreparedStatement stmt, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            stmt.setObject(i + 1, params.get(i));
+        }
+    }
+    
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception e) {
+                    logger.debug("Error closing JDBC resource", e);
+                }
+            }
+        }
+    }
+    
+    private EmployeeEntity mapResultSetToEntity(ResultSet rs, boolean withPassword) throws SQLException {
         EmployeeEntity employee = new EmployeeEntity();
         employee.setId(rs.getLong("id"));
         employee.setName(rs.getString("name"));
         employee.setEmail(rs.getString("email"));
-        employee.setPassword(rs.getString("password"));
+        if (withPassword) {
+            employee.setPassword(rs.getString("password"));
+        }
         employee.setPhone(rs.getString("phone"));
         employee.setDepartment(rs.getString("department"));
         employee.setRole(rs.getString("role"));
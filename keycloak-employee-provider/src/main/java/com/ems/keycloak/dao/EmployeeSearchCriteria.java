@@ -0,0 +1,83 @@
+package com.ems.keycloak.dao;
+
+/**
+ * Filters for paginated employee searches. Text filters are prefix matches (so the column indexes
+ * can be used) unless {@code exact} is set; a {@code *} inside a term is treated as a wildcard.
+ * Department and role are always matched exactly against their indexed columns.
+ */
+public class EmployeeSearchCriteria {
+
+    private String search;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String department;
+    private String role;
+    private boolean exact;
+
+    public static EmployeeSearchCriteria all() {
+        return new EmployeeSearchCriteria();
+    }
+
+    public static EmployeeSearchCriteria search(String search) {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setSearch(search);
+        return criteria;
+    }
+
+    public String getSearch() {
+        return search;
+    }
+
+    public void setSearch(String search) {
+        this.search = search;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    public void setExact(boolean exact) {
+        this.exact = exact;
+    }
+}
@@ -17,6 +17,19 @@ public class EmployeeEntity {
     // Default constructor
     public EmployeeEntity() {}
 
+    // Copy constructor
+    public EmployeeEntity(EmployeeEntity other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.email = other.email;
+        this.password = other.password;
+        this.phone = other.phone;
+        this.department = other.department;
+        this.role = other.role;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     // Getters and setters
     public Long getId() {
         return id;
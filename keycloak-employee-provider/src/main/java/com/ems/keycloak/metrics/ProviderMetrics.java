@@ -0,0 +1,157 @@
+package com.ems.keycloak.metrics;
+
+import com.ems.keycloak.cache.EmployeeLookupCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Meter registry of the employee provider, shared by every component of the factory. Timers used on the
+ * login path are created once here so recording a sample is a plain field access and needs no tag lookup.
+ * Every timer in the registry, including the Hikari pool timers, publishes a percentile histogram.
+ */
+public class ProviderMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99, 0.999};
+
+    private final PrometheusMeterRegistry registry;
+
+    private final Timer findByEmail;
+    private final Timer findById;
+    private final Timer countByEmail;
+    private final Timer count;
+    private final Timer search;
+    private final Timer bcryptVerify;
+    private final Timer plainVerify;
+
+    public ProviderMetrics() {
+        this.registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                    .percentilesHistogram(true)
+                    .percentiles(PERCENTILES)
+                    .build()
+                    .merge(config);
+            }
+        });
+
+        this.findByEmail = queryTimer("find_by_email");
+        this.findById = queryTimer("find_by_id");
+        this.countByEmail = queryTimer("count_by_email");
+        this.count = queryTimer("count");
+        this.search = queryTimer("search");
+        this.bcryptVerify = verifyTimer("bcrypt");
+        this.plainVerify = verifyTimer("plain");
+    }
+
+    private Timer queryTimer(String query) {
+        return Timer.builder("employee.dao.query")
+            .description("Employee database query latency, excluding connection acquisition")
+            .tag("query", query)
+            .register(registry);
+    }
+
+    private Timer verifyTimer(String scheme) {
+        return Timer.builder("employee.password.verify")
+            .description("Time spent checking a password against the stored hash")
+            .tag("scheme", scheme)
+            .register(registry);
+    }
+
+    /**
+     * Publishes the hit, miss, eviction and size figures of one component's lookup cache, tagged with the
+     * component id. Returns the meters so they can be removed when the component is released.
+     */
+    public List<Meter> bindLookupCache(EmployeeLookupCache cache, String componentId) {
+        return Arrays.asList(
+            cacheGets(cache, componentId, "hit", EmployeeLookupCache::getHits),
+            cacheGets(cache, componentId, "miss", EmployeeLookupCache::getMisses),
+            FunctionCounter.builder("employee.cache.evictions", cache, EmployeeLookupCache::getEvictions)
+                .description("Employees dropped from the lookup cache because it was full or the entry expired")
+                .tag("component", componentId)
+                .register(registry),
+            Gauge.builder("employee.cache.size", cache, EmployeeLookupCache::size)
+                .description("Employees held in the lookup cache")
+                .tag("component", componentId)
+                .register(registry));
+    }
+
+    private FunctionCounter cacheGets(EmployeeLookupCache cache, String componentId, String result,
+                                      ToDoubleFunction<EmployeeLookupCache> count) {
+        return FunctionCounter.builder("employee.cache.gets", cache, count)
+            .description("Employee lookups answered from the cache (hit) or the database (miss)")
+            .tag("component", componentId)
+            .tag("result", result)
+            .register(registry);
+    }
+
+    public void remove(List<Meter> meters) {
+        meters.forEach(registry::remove);
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Renders every meter in the Prometheus text exposition format.
+     */
+    public String scrape() {
+        return registry.scrape();
+    }
+
+    public Timer findByEmail() {
+        return findByEmail;
+    }
+
+    public Timer findById() {
+        return findById;
+    }
+
+    public Timer countByEmail() {
+        return countByEmail;
+    }
+
+    public Timer count() {
+        return count;
+    }
+
+    public Timer search() {
+        return search;
+    }
+
+    public Timer bcryptVerify() {
+        return bcryptVerify;
+    }
+
+    public Timer plainVerify() {
+        return plainVerify;
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, taken from {@link System#nanoTime()}.
+     */
+    public static void stop(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void close() {
+        registry.close();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ems.keycloak.metrics;
+
+import com.ems.keycloak.provider.CustomUserStorageProviderFactory;
+import org.keycloak.Config;
+import org.keycloak.models.KeycloakSession;
+import org.keycloak.models.KeycloakSessionFactory;
+import org.keycloak.models.RealmModel;
+import org.keycloak.models.RoleModel;
+import org.keycloak.services.managers.AppAuthManager;
+import org.keycloak.services.managers.AuthenticationManager.AuthResult;
+import org.keycloak.services.resource.RealmResourceProvider;
+import org.keycloak.services.resource.RealmResourceProviderFactory;
+import org.keycloak.storage.UserStorageProvider;
+
+import javax.ws.rs.ForbiddenException;
+import javax.ws.rs.GET;
+import javax.ws.rs.NotAuthorizedException;
+import javax.ws.rs.Produces;
+
+/**
+ * Serves the provider's meters for Prometheus at {@code /realms/{realm}/employee-provider-metrics}.
+ * The meters are not realm specific, so every realm returns the same output. Callers need a bearer token
+ * issued by that realm to a user or service account holding the realm role {@code employee-metrics}
+ * (configurable with {@code --spi-realm-restapi-extension-employee-provider-metrics-role}).
+ */
+public class ProviderMetricsResourceProviderFactory implements RealmResourceProviderFactory {
+
+    public static final String ID = "employee-provider-metrics";
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String DEFAULT_REQUIRED_ROLE = "employee-metrics";
+
+    private String requiredRole = DEFAULT_REQUIRED_ROLE;
+
+    @Override
+    public RealmResourceProvider create(KeycloakSession session) {
+        CustomUserStorageProviderFactory storageFactory = (CustomUserStorageProviderFactory) session
+            .getKeycloakSessionFactory()
+            .getProviderFactory(UserStorageProvider.class, CustomUserStorageProviderFactory.PROVIDER_NAME);
+        MetricsResource resource = new MetricsResource(session, storageFactory.getMetrics(), requiredRole);
+
+        return new RealmResourceProvider() {
+            @Override
+            public Object getResource() {
+                return resource;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Override
+    public void init(Config.Scope config) {
+        requiredRole = config.get("role", DEFAULT_REQUIRED_ROLE);
+    }
+
+    @Override
+    public void postInit(KeycloakSessionFactory factory) {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    public static class MetricsResource {
+        private final KeycloakSession session;
+        private final ProviderMetrics metrics;
+        private final String requiredRole;
+
+        MetricsResource(KeycloakSession session, ProviderMetrics metrics, String requiredRole) {
+            this.session = session;
+            this.metrics = metrics;
+            this.requiredRole = requiredRole;
+        }
+
+        @GET
+        @Produces(PROMETHEUS_CONTENT_TYPE)
+        public String scrape() {
+            requireRole();
+            return metrics.scrape();
+        }
+
+        private void requireRole() {
+            AuthResult auth = new AppAuthManager.BearerTokenAuthenticator(session).authenticate();
+            if (auth == null) {
+                throw new NotAuthorizedException("Bearer");
+            }
+            RealmModel realm = session.getContext().getRealm();
+            RoleModel role = realm.getRole(requiredRole);
+            if (role == null || !auth.getUser().hasRole(role)) {
+                throw new ForbiddenException("Realm role " + requiredRole + " is required");
+            }
+        }
+    }
+}
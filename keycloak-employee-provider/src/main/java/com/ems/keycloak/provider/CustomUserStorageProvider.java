@@ -1,15 +1,21 @@
 package com.ems.keycloak.provider;
 
+import com.ems.keycloak.cache.EmployeeLookupCache;
+import com.ems.keycloak.credential.CredentialVerificationExecutor;
+import com.ems.keycloak.credential.CredentialVerificationExecutor.Result;
 import com.ems.keycloak.dao.EmployeeDao;
+import com.ems.keycloak.dao.EmployeeSearchCriteria;
 import com.ems.keycloak.entity.EmployeeEntity;
 import org.keycloak.component.ComponentModel;
 import org.keycloak.credential.CredentialInput;
 import org.keycloak.credential.CredentialInputValidator;
 import org.keycloak.credential.CredentialModel;
+import org.keycloak.credential.LegacyUserCredentialManager;
 import org.keycloak.models.*;
 import org.keycloak.models.credential.PasswordCredentialModel;
 import org.keycloak.storage.StorageId;
 import org.keycloak.storage.UserStorageProvider;
+import org.keycloak.storage.adapter.AbstractUserAdapter;
 import org.keycloak.storage.user.UserLookupProvider;
 import org.keycloak.storage.user.UserQueryProvider;
 import org.slf4j.Logger;
@@ -24,20 +30,37 @@ public class CustomUserStorageProvider implements UserStorageProvider,
     
     private static final Logger logger = LoggerFactory.getLogger(CustomUserStorageProvider.class);
     
+    private static final String ATTR_DEPARTMENT = EmployeeUserMapping.ATTR_DEPARTMENT;
+    private static final String ATTR_ROLE = EmployeeUserMapping.ATTR_ROLE;
+    
     private final KeycloakSession session;
     private final ComponentModel model;
     private final EmployeeDao employeeDao;
+    private final EmployeeLookupCache lookupCache;
+    private final CredentialVerificationExecutor verificationExecutor;
+    
+    // Lookups already made in this Keycloak session, including misses; a provider lives for one session only
+    private final Map<String, EmployeeEntity> sessionLookups = new HashMap<>();
     
-    public CustomUserStorageProvider(KeycloakSession session, ComponentModel model) {
+    // Search result streams still holding a connection
+    private final List<Stream<EmployeeEntity>> openStreams = new ArrayList<>();
+    
+    public CustomUserStorageProvider(KeycloakSession session, ComponentModel model, EmployeeDao employeeDao,
+                                     EmployeeLookupCache lookupCache,
+                                     CredentialVerificationExecutor verificationExecutor) {
         this.session = session;
         this.model = model;
-        this.employeeDao = new EmployeeDao();
+        this.employeeDao = employeeDao;
+        this.lookupCache = lookupCache;
+        this.verificationExecutor = verificationExecutor;
         logger.info("CustomUserStorageProvider initialized");
     }
     
     @Override
     public void close() {
         logger.debug("Closing CustomUserStorageProvider");
+        openStreams.forEach(Stream::close);
+        openStreams.clear();
     }
     
     @Override
@@ -51,7 +74,7 @@ public class CustomUserStorageProvider implements UserStorageProvider,
     public UserModel getUserByUsername(RealmModel realm, String username) {
         logger.debug("getUserByUsername called with username: {}", username);
         
-        EmployeeEntity employee = employeeDao.findByEmail(username);
+        EmployeeEntity employee = findEmployee(username);
         if (employee != null) {
             return createUserModel(realm, employee);
         }
@@ -59,6 +82,31 @@ public class CustomUserStorageProvider implements UserStorageProvider,
         return null;
     }
     
+    /**
+     * Looks the employee up through the session memo, then the shared cache, then the database.
+     * Each session gets its own copy because the user adapter mutates the entity it wraps.
+     * Used for lookups only; {@link #isValid} reads the row itself.
+     */
+    private EmployeeEntity findEmployee(String email) {
+        if (email == null) {
+            return null;
+        }
+        String key = email.toLowerCase(Locale.ROOT);
+        if (sessionLookups.containsKey(key)) {
+            return sessionLookups.get(key);
+        }
+        
+        EmployeeEntity cached = lookupCache.get(email, employeeDao::findByEmail);
+        EmployeeEntity employee = cached != null ? new EmployeeEntity(cached) : null;
+        sessionLookups.put(key, employee);
+        return employee;
+    }
+    
+    private void evictEmployee(String email) {
+        lookupCache.invalidate(email);
+        sessionLookups.remove(email.toLowerCase(Locale.ROOT));
+    }
+    
     @Override
     public UserModel getUserByEmail(RealmModel realm, String email) {
         logger.debug("getUserByEmail called with email: {}", email);
@@ -124,41 +172,13 @@ public class CustomUserStorageProvider implements UserStorageProvider,
             @Override
             public Map<String, List<String>> getAttributes() {
                 Map<String, List<String>> attributes = super.getAttributes();
-                attributes.put("department", Arrays.asList(employee.getDepartment()));
-                attributes.put("phone", Arrays.asList(employee.getPhone()));
-                
-                // Map employee role to Keycloak roles
-                List<String> roles = mapEmployeeRoleToKeycloakRoles(employee.getRole());
-                attributes.put("roles", roles);
-                
+                EmployeeUserMapping.putAttributes(attributes, employee);
                 return attributes;
             }
             
-            private List<String> mapEmployeeRoleToKeycloakRoles(String employeeRole) {
-                List<String> roles = new ArrayList<>();
-                
-                switch (employeeRole.toUpperCase()) {
-                    case "ADMIN":
-                        roles.add("FULL_ACCESS");
-                        break;
-                    case "MANAGER":
-                        roles.add("READ_EMPLOYEES");
-                        roles.add("CREATE_EMPLOYEES");
-                        roles.add("UPDATE_EMPLOYEES");
-                        break;
-                    case "HR":
-                        roles.add("READ_EMPLOYEES");
-                        roles.add("CREATE_EMPLOYEES");
-                        roles.add("UPDATE_EMPLOYEES");
-                        roles.add("DELETE_EMPLOYEES");
-                        break;
-                    case "EMPLOYEE":
-                    default:
-                        roles.add("READ_EMPLOYEES");
-                        break;
-                }
-                
-                return roles;
+            @Override
+            public SubjectCredentialManager credentialManager() {
+                return new LegacyUserCredentialManager(session, realm, this);
             }
         };
     }
@@ -185,41 +205,104 @@ public class CustomUserStorageProvider implements UserStorageProvider,
         
         logger.debug("Validating password for user: {}", username);
         
-        boolean isValid = employeeDao.validatePassword(username, password);
-        logger.info("Password validation for user {}: {}", username, isValid ? "SUCCESS" : "FAILED");
+        // Check against the row as it is now, never the shared cache, so a deleted employee or a changed
+        // password takes effect on the very next login rather than when the cached entry expires
+        EmployeeEntity employee = employeeDao.findByEmail(username);
+        if (employee == null) {
+            // Deleted since it was cached: stop returning it from lookups as well
+            evictEmployee(username);
+            logger.info("Password validation for user {}: FAILED", username);
+            return false;
+        }
+        
+        Result result = checkPassword(employee, password);
+        if (result == Result.SHED) {
+            // Not a wrong password: fail this login as a server error so it does not count towards lockout
+            logger.warn("Password validation for user {}: SHED, verification pool is saturated", username);
+            throw new ModelException("Password verification is temporarily unavailable, please retry");
+        }
+        logger.info("Password validation for user {}: {}", username, result == Result.VALID ? "SUCCESS" : "FAILED");
         
-        return isValid;
+        return result == Result.VALID;
+    }
+    
+    private Result checkPassword(EmployeeEntity employee, String password) {
+        return verificationExecutor.verify(() -> employeeDao.validatePassword(employee, password));
     }
     
     private String getPassword(UserModel user) {
-        String username = user.getUsername();
-        EmployeeEntity employee = employeeDao.findByEmail(username);
+        EmployeeEntity employee = findEmployee(user.getUsername());
         return employee != null ? employee.getPassword() : null;
     }
     
     // UserQueryProvider implementation
     @Override
     public int getUsersCount(RealmModel realm) {
-        return 0; // Not implemented for this example
+        return employeeDao.countAll();
+    }
+    
+    @Override
+    public int getUsersCount(RealmModel realm, String search) {
+        return employeeDao.count(EmployeeSearchCriteria.search(search));
+    }
+    
+    @Override
+    public int getUsersCount(RealmModel realm, Map<String, String> params) {
+        return employeeDao.count(toCriteria(params));
     }
     
     @Override
     public Stream<UserModel> searchForUserStream(RealmModel realm, String search, Integer firstResult, Integer maxResults) {
-        return Stream.empty(); // Not implemented for this example
+        logger.debug("searchForUserStream called with search: {}, first: {}, max: {}", search, firstResult, maxResults);
+        return toUserModels(realm, employeeDao.search(EmployeeSearchCriteria.search(search), firstResult, maxResults));
     }
     
     @Override
     public Stream<UserModel> searchForUserStream(RealmModel realm, Map<String, String> params, Integer firstResult, Integer maxResults) {
-        return Stream.empty(); // Not implemented for this example
+        logger.debug("searchForUserStream called with params: {}, first: {}, max: {}", params.keySet(), firstResult, maxResults);
+        return toUserModels(realm, employeeDao.search(toCriteria(params), firstResult, maxResults));
     }
     
     @Override
     public Stream<UserModel> getGroupMembersStream(RealmModel realm, GroupModel group, Integer firstResult, Integer maxResults) {
-        return Stream.empty(); // Not implemented for this example
+        return Stream.empty(); // Employees are not mapped to Keycloak groups
     }
     
     @Override
     public Stream<UserModel> searchForUserByUserAttributeStream(RealmModel realm, String attrName, String attrValue) {
-        return Stream.empty(); // Not implemented for this example
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        switch (attrName) {
+            case ATTR_DEPARTMENT:
+                criteria.setDepartment(attrValue);
+                break;
+            case ATTR_ROLE:
+                criteria.setRole(attrValue);
+                break;
+            default:
+                // Only indexed columns are searchable by attribute
+                return Stream.empty();
+        }
+        return toUserModels(realm, employeeDao.search(criteria, null, null));
+    }
+    
+    private EmployeeSearchCriteria toCriteria(Map<String, String> params) {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setSearch(params.get(UserModel.SEARCH));
+        criteria.setEmail(params.containsKey(UserModel.EMAIL) ? params.get(UserModel.EMAIL) : params.get(UserModel.USERNAME));
+        criteria.setFirstName(params.get(UserModel.FIRST_NAME));
+        criteria.setLastName(params.get(UserModel.LAST_NAME));
+        criteria.setDepartment(params.get(ATTR_DEPARTMENT));
+        criteria.setRole(params.get(ATTR_ROLE));
+        criteria.setExact(Boolean.parseBoolean(params.get(UserModel.EXACT)));
+        return criteria;
+    }
+    
+    /**
+     * Maps employee rows to user models lazily. The row stream is also closed with this provider,
+     * so a stream Keycloak stops reading early still returns its connection to the pool.
+     */
+    private Stream<UserModel> toUserModels(RealmModel realm, Stream<EmployeeEntity> employees) {
+        openStreams.add(employees);
+        return employees.map(employee -> createUserModel(realm, employee));
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,28 @@
 package com.ems.keycloak.provider;
 
+import com.ems.keycloak.cache.EmployeeLookupCache;
+import com.ems.keycloak.credential.CredentialVerificationExecutor;
+import com.ems.keycloak.dao.EmployeeDao;
+import com.ems.keycloak.metrics.ProviderMetrics;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.keycloak.Config;
 import org.keycloak.component.ComponentModel;
+import org.keycloak.component.ComponentValidationException;
 import org.keycloak.models.KeycloakSession;
+import org.keycloak.models.RealmModel;
 import org.keycloak.provider.ProviderConfigProperty;
+import org.keycloak.provider.ProviderConfigurationBuilder;
 import org.keycloak.storage.UserStorageProviderFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CustomUserStorageProviderFactory implements UserStorageProviderFactory<CustomUserStorageProvider> {
     
@@ -15,10 +30,133 @@ public class CustomUserStorageProviderFactory implements UserStorageProviderFact
     
     public static final String PROVIDER_NAME = "employee-user-storage";
     
+    public static final String CONFIG_JDBC_URL = "jdbcUrl";
+    public static final String CONFIG_DB_USERNAME = "dbUsername";
+    public static final String CONFIG_DB_PASSWORD = "dbPassword";
+    public static final String CONFIG_POOL_SIZE = "poolSize";
+    public static final String CONFIG_CACHE_MAX_SIZE = "cacheMaxSize";
+    public static final String CONFIG_CACHE_TTL_SECONDS = "cacheTtlSeconds";
+    
+    // SPI-level settings (--spi-storage-employee-user-storage-...), shared by all components
+    public static final String CONFIG_VERIFICATION_THREADS = "verificationThreads";
+    public static final String CONFIG_VERIFICATION_QUEUE_DEPTH = "verificationQueueDepth";
+    public static final String CONFIG_VERIFICATION_TIMEOUT_MILLIS = "verificationTimeoutMillis";
+    
+    private static final String DEFAULT_JDBC_URL = "jdbc:mysql://localhost:3306/emsdb?useSSL=false&serverTimezone=UTC";
+    private static final String DEFAULT_DB_USERNAME = "root";
+    private static final String DEFAULT_DB_PASSWORD = "root";
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final int DEFAULT_CACHE_MAX_SIZE = 10000;
+    private static final int DEFAULT_CACHE_TTL_SECONDS = 60;
+    private static final int DEFAULT_VERIFICATION_QUEUE_DEPTH = 64;
+    private static final int DEFAULT_VERIFICATION_TIMEOUT_MILLIS = 2000;
+    
+    // One pool and one lookup cache per configured component, shared by every session created for it
+    private final Map<String, HikariDataSource> dataSources = new ConcurrentHashMap<>();
+    private final Map<String, EmployeeLookupCache> lookupCaches = new ConcurrentHashMap<>();
+    private final Map<String, List<Meter>> lookupCacheMeters = new ConcurrentHashMap<>();
+    
+    private Config.Scope config;
+    private CredentialVerificationExecutor verificationExecutor;
+    private ProviderMetrics metrics;
+    
+    @Override
+    public void init(Config.Scope config) {
+        this.config = config;
+        this.metrics = new ProviderMetrics();
+        this.verificationExecutor = new CredentialVerificationExecutor(
+            intDefault(CONFIG_VERIFICATION_THREADS, Runtime.getRuntime().availableProcessors()),
+            intDefault(CONFIG_VERIFICATION_QUEUE_DEPTH, DEFAULT_VERIFICATION_QUEUE_DEPTH),
+            intDefault(CONFIG_VERIFICATION_TIMEOUT_MILLIS, DEFAULT_VERIFICATION_TIMEOUT_MILLIS),
+            metrics.getRegistry());
+        logger.info("Employee User Storage Provider factory initialized");
+    }
+    
     @Override
     public CustomUserStorageProvider create(KeycloakSession session, ComponentModel model) {
-        logger.info("Creating CustomUserStorageProvider instance");
-        return new CustomUserStorageProvider(session, model);
+        HikariDataSource dataSource = dataSources.computeIfAbsent(model.getId(), id -> createDataSource(model));
+        EmployeeLookupCache lookupCache = getLookupCache(model);
+        return new CustomUserStorageProvider(session, model, new EmployeeDao(dataSource, metrics), lookupCache,
+            verificationExecutor);
+    }
+    
+    /**
+     * Returns the meters of all components, including DAO query latency, pool connection acquisition,
+     * lookup cache hits and misses, and the credential verification queue.
+     */
+    public ProviderMetrics getMetrics() {
+        return metrics;
+    }
+    
+    public MeterRegistry getMeterRegistry() {
+        return metrics.getRegistry();
+    }
+    
+    public CredentialVerificationExecutor getVerificationExecutor() {
+        return verificationExecutor;
+    }
+    
+    /**
+     * Returns the shared lookup cache of the given component, e.g. to read its hit and miss counters.
+     */
+    public EmployeeLookupCache getLookupCache(ComponentModel model) {
+        return lookupCaches.computeIfAbsent(model.getId(), id -> {
+            EmployeeLookupCache cache = new EmployeeLookupCache(
+                model.get(CONFIG_CACHE_MAX_SIZE, intDefault(CONFIG_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE)),
+                model.get(CONFIG_CACHE_TTL_SECONDS, intDefault(CONFIG_CACHE_TTL_SECONDS, DEFAULT_CACHE_TTL_SECONDS)) * 1000L);
+            lookupCacheMeters.put(id, metrics.bindLookupCache(cache, id));
+            return cache;
+        });
+    }
+    
+    private HikariDataSource createDataSource(ComponentModel model) {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName("employee-user-storage-" + model.getId());
+        hikariConfig.setJdbcUrl(model.get(CONFIG_JDBC_URL, defaultValue(CONFIG_JDBC_URL, DEFAULT_JDBC_URL)));
+        hikariConfig.setUsername(model.get(CONFIG_DB_USERNAME, defaultValue(CONFIG_DB_USERNAME, DEFAULT_DB_USERNAME)));
+        hikariConfig.setPassword(model.get(CONFIG_DB_PASSWORD, defaultValue(CONFIG_DB_PASSWORD, DEFAULT_DB_PASSWORD)));
+        hikariConfig.setMaximumPoolSize(model.get(CONFIG_POOL_SIZE, intDefault(CONFIG_POOL_SIZE, DEFAULT_POOL_SIZE)));
+        hikariConfig.setReadOnly(true);
+        // Publishes hikaricp.connections.acquire and pool usage, tagged with the pool name
+        hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(metrics.getRegistry()));
+        
+        // Let Connector/J cache the parsed lookup statements on each pooled connection
+        hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+        hikariConfig.addDataSourceProperty("prepStmtCacheSize", "64");
+        hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
+        // Fetch search results in batches of the statement fetch size instead of buffering the whole result
+        hikariConfig.addDataSourceProperty("useCursorFetch", "true");
+        
+        logger.info("Creating connection pool for component {} with max size {}", model.getId(), hikariConfig.getMaximumPoolSize());
+        return new HikariDataSource(hikariConfig);
+    }
+    
+    private String defaultValue(String key, String fallback) {
+        return config != null ? config.get(key, fallback) : fallback;
+    }
+    
+    private int intDefault(String key, int fallback) {
+        return config != null ? config.getInt(key, fallback) : fallback;
+    }
+    
+    private void releaseComponent(String componentId) {
+        EmployeeLookupCache lookupCache = lookupCaches.remove(componentId);
+        if (lookupCache != null) {
+            logger.info("Dropping lookup cache for component {} (hits={}, misses={}, evictions={})",
+                componentId, lookupCache.getHits(), lookupCache.getMisses(), lookupCache.getEvictions());
+            lookupCache.invalidateAll();
+        }
+        List<Meter> cacheMeters = lookupCacheMeters.remove(componentId);
+        if (cacheMeters != null) {
+            metrics.remove(cacheMeters);
+        }
+        
+        HikariDataSource dataSource = dataSources.remove(componentId);
+        if (dataSource != null) {
+            logger.info("Closing connection pool for component {}", componentId);
+            dataSource.close();
+        }
     }
     
     @Override
@@ -33,21 +171,96 @@ public class CustomUserStorageProviderFactory implements UserStorageProviderFact
     
     @Override
     public List<ProviderConfigProperty> getConfigProperties() {
-        return List.of();
+        return ProviderConfigurationBuilder.create()
+            .property()
+                .name(CONFIG_JDBC_URL)
+                .label("JDBC URL")
+                .helpText("JDBC URL of the employee database")
+                .type(ProviderConfigProperty.STRING_TYPE)
+                .defaultValue(DEFAULT_JDBC_URL)
+                .add()
+            .property()
+                .name(CONFIG_DB_USERNAME)
+                .label("Database Username")
+                .type(ProviderConfigProperty.STRING_TYPE)
+                .defaultValue(DEFAULT_DB_USERNAME)
+                .add()
+            .property()
+                .name(CONFIG_DB_PASSWORD)
+                .label("Database Password")
+                .type(ProviderConfigProperty.PASSWORD)
+                .secret(true)
+                .add()
+            .property()
+                .name(CONFIG_POOL_SIZE)
+                .label("Connection Pool Size")
+                .helpText("Maximum number of pooled database connections")
+                .type(ProviderConfigProperty.STRING_TYPE)
+                .defaultValue(String.valueOf(DEFAULT_POOL_SIZE))
+                .add()
+            .property()
+                .name(CONFIG_CACHE_MAX_SIZE)
+                .label("User Cache Size")
+                .helpText("Maximum number of employees cached across sessions; 0 disables the cache")
+                .type(ProviderConfigProperty.STRING_TYPE)
+                .defaultValue(String.valueOf(DEFAULT_CACHE_MAX_SIZE))
+                .add()
+            .property()
+                .name(CONFIG_CACHE_TTL_SECONDS)
+                .label("User Cache TTL (seconds)")
+                .helpText("How long a cached employee is reused before it is read from the database again")
+                .type(ProviderConfigProperty.STRING_TYPE)
+                .defaultValue(String.valueOf(DEFAULT_CACHE_TTL_SECONDS))
+                .add()
+            .build();
     }
     
     @Override
-    public void validateConfiguration(KeycloakSession session, ComponentModel config) {
+    public void validateConfiguration(KeycloakSession session, RealmModel realm, ComponentModel config) {
         logger.debug("Validating configuration for Employee User Storage Provider");
+        validateInt(config, CONFIG_POOL_SIZE, 1, "Connection pool size");
+        validateInt(config, CONFIG_CACHE_MAX_SIZE, 0, "User cache size");
+        validateInt(config, CONFIG_CACHE_TTL_SECONDS, 0, "User cache TTL");
+    }
+    
+    private void validateInt(ComponentModel config, String key, int min, String label) {
+        String value = config.get(key);
+        if (value != null) {
+            try {
+                if (Integer.parseInt(value.trim()) < min) {
+                    throw new ComponentValidationException(label + " must be at least " + min);
+                }
+            } catch (NumberFormatException e) {
+                throw new ComponentValidationException(label + " must be a number");
+            }
+        }
     }
     
     @Override
-    public void onUpdate(KeycloakSession session, ComponentModel oldModel, ComponentModel newModel) {
+    public void onUpdate(KeycloakSession session, RealmModel realm, ComponentModel oldModel, ComponentModel newModel) {
         logger.info("Employee User Storage Provider configuration updated");
+        releaseComponent(oldModel.getId());
     }
     
     @Override
-    public void onCreate(KeycloakSession session, ComponentModel model) {
+    public void onCreate(KeycloakSession session, RealmModel realm, ComponentModel model) {
         logger.info("Employee User Storage Provider created");
     }
-}
\ No newline at end of file
+    
+    @Override
+    public void preRemove(KeycloakSession session, RealmModel realm, ComponentModel model) {
+        releaseComponent(model.getId());
+    }
+    
+    @Override
+    public void close() {
+        lookupCaches.keySet().forEach(this::releaseComponent);
+        dataSources.keySet().forEach(this::releaseComponent);
+        if (verificationExecutor != null) {
+            verificationExecutor.shutdown();
+        }
+        if (metrics != null) {
+            metrics.close();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ems.keycloak.provider;
+
+import com.ems.keycloak.entity.EmployeeEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps employee rows onto the user attributes Keycloak sees. Kept separate from the user adapter so the
+ * mapping can be exercised without a Keycloak session.
+ */
+public final class EmployeeUserMapping {
+
+    public static final String ATTR_DEPARTMENT = "department";
+    public static final String ATTR_ROLE = "role";
+    public static final String ATTR_PHONE = "phone";
+    public static final String ATTR_ROLES = "roles";
+
+    private EmployeeUserMapping() {
+    }
+
+    /**
+     * Adds the employee's department, phone and mapped roles to the given attribute map.
+     */
+    public static void putAttributes(Map<String, List<String>> attributes, EmployeeEntity employee) {
+        attributes.put(ATTR_DEPARTMENT, Arrays.asList(employee.getDepartment()));
+        attributes.put(ATTR_PHONE, Arrays.asList(employee.getPhone()));
+
+        // Map employee role to Keycloak roles
+        List<String> roles = mapEmployeeRoleToKeycloakRoles(employee.getRole());
+        attributes.put(ATTR_ROLES, roles);
+    }
+
+    public static List<String> mapEmployeeRoleToKeycloakRoles(String employeeRole) {
+        List<String> roles = new ArrayList<>();
+
+        switch (employeeRole.toUpperCase()) {
+            case "ADMIN":
+                roles.add("FULL_ACCESS");
+                break;
+            case "MANAGER":
+                roles.add("READ_EMPLOYEES");
+                roles.add("CREATE_EMPLOYEES");
+                roles.add("UPDATE_EMPLOYEES");
+                break;
+            case "HR":
+                roles.add("READ_EMPLOYEES");
+                roles.add("CREATE_EMPLOYEES");
+                roles.add("UPDATE_EMPLOYEES");
+                roles.add("DELETE_EMPLOYEES");
+                break;
+            case "EMPLOYEE":
+            default:
+                roles.add("READ_EMPLOYEES");
+                break;
+        }
+
+        return roles;
+    }
+}
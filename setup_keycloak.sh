@@ -73,6 +73,12 @@ for role in "ADMIN" "MANAGER" "HR" "EMPLOYEE"; do
     -d "{\"name\": \"$role\", \"description\": \"$role role for employees\"}" > /dev/null
 done
 
+# Required to scrape /realms/employee-realm/employee-provider-metrics
+curl -s -X POST "$KEYCLOAK_URL/admin/realms/employee-realm/roles" \
+  -H "Authorization: Bearer $ADMIN_TOKEN" \
+  -H "Content-Type: application/json" \
+  -d '{"name": "employee-metrics", "description": "Read the employee provider metrics"}' > /dev/null
+
 # Create client roles
 echo "Creating client roles..."
 CLIENT_UUID=$(curl -s -X GET "$KEYCLOAK_URL/admin/realms/employee-realm/clients?clientId=employee-api-client" \